@@ -0,0 +1,56 @@
+package tp.acecs2103.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tp.acecs2103.logic.commands.Command;
+import tp.acecs2103.logic.commands.exceptions.CommandException;
+import tp.acecs2103.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures {@link TaskListParser#parseCommand(String)} for a typical input of each command word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskListParserBenchmark {
+
+    @Param({
+        "add i/0109 w/1 d/update documentation c/2020-08-15 r/check dashboard a/Ip",
+        "edit i/0101 c/2020-10-12 r/new remark",
+        "delete 0101",
+        "find book",
+        "exit",
+        "deadline i/0101 c/2020-08-25",
+        "get t/module",
+        "help",
+        "list 7",
+        "done 0101",
+        "undone 0101",
+        "filter w/4 k/pending l/official",
+        "home",
+        "import data/tasks.csv",
+        "export data/deadlines.ics"
+    })
+    private String userInput;
+
+    private final TaskListParser parser = new TaskListParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException, CommandException {
+        return parser.parseCommand(userInput);
+    }
+}
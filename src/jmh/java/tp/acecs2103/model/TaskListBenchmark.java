@@ -0,0 +1,110 @@
+package tp.acecs2103.model;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tp.acecs2103.model.exceptions.InvalidTaskListOperationException;
+import tp.acecs2103.model.task.Task;
+import tp.acecs2103.model.task.WeekNumber;
+import tp.acecs2103.testutil.TaskBuilder;
+import tp.acecs2103.testutil.TypicalTasks;
+
+/**
+ * Measures the queries and changes of {@link TaskList} which commands run, on task lists of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskListBenchmark {
+    private static final WeekNumber WEEK = WeekNumber.of(7);
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private TaskList taskList;
+
+    /**
+     * Creates the task list, making all of its tasks customized so that any of them can be deleted.
+     */
+    @Setup
+    public void setUp() {
+        ArrayList<Task> tasks = new ArrayList<>(size);
+        for (Task task : TypicalTasks.getLargeTaskList(size).getTaskList()) {
+            TaskBuilder builder = new TaskBuilder(task).withIsCustomized(true);
+            switch (task.getCategory()) {
+            case ADMIN:
+                tasks.add(builder.buildAdmin());
+                break;
+            case TOPIC:
+                tasks.add(builder.buildTopic());
+                break;
+            case IP:
+                tasks.add(builder.buildIp());
+                break;
+            default:
+                tasks.add(builder.buildTp());
+                break;
+            }
+        }
+        taskList = new TaskList(tasks, WeekNumber.of(1));
+    }
+
+    @Benchmark
+    public ArrayList<Task> find() {
+        return taskList.find("task 7");
+    }
+
+    @Benchmark
+    public ArrayList<Task> filterPending() {
+        return taskList.filter(false, true, WEEK);
+    }
+
+    @Benchmark
+    public ArrayList<Task> filterDone() {
+        return taskList.filter(true, false, null);
+    }
+
+    @Benchmark
+    public ArrayList<Task> list() {
+        return taskList.list(WEEK);
+    }
+
+    /**
+     * Deletes the task in the middle of the task list, and adds it again at the end so that the size stays the same.
+     * The deletion moves the later tasks and bits down with block copies, but does not look up any of them.
+     */
+    @Benchmark
+    public TaskList delete() throws InvalidTaskListOperationException {
+        Task task = taskList.getTaskList().get(size / 2);
+        taskList.delete(task.getIndex());
+        taskList.initialize(task);
+        return taskList;
+    }
+
+    /**
+     * Marks a pending task as done, and as pending again so that the next invocation finds it pending.
+     */
+    @Benchmark
+    public TaskList done() throws InvalidTaskListOperationException {
+        // the tasks at positions which are not multiples of 3 are pending
+        Task task = taskList.getTaskList().get(size / 2 - size / 2 % 3 + 1);
+        taskList.done(task.getIndex());
+        taskList.undone(task.getIndex());
+        return taskList;
+    }
+}
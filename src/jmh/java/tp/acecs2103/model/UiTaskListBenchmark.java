@@ -0,0 +1,53 @@
+package tp.acecs2103.model;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tp.acecs2103.model.task.Task;
+import tp.acecs2103.testutil.TypicalTasks;
+
+/**
+ * Measures {@link UiTaskList#addAll(ArrayList)}, which displays the result of every search and filter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UiTaskListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private ArrayList<Task> tasks;
+    private UiTaskList uiTaskList;
+
+    @Setup
+    public void setUp() {
+        TaskList taskList = TypicalTasks.getLargeTaskList(size);
+        tasks = new ArrayList<>(taskList.getTaskList());
+        uiTaskList = new UiTaskList(taskList);
+    }
+
+    /**
+     * Displays all tasks, as done after a search or filter matching every task.
+     */
+    @Benchmark
+    public UiTaskList addAll() {
+        uiTaskList.addAll(tasks);
+        return uiTaskList;
+    }
+}
@@ -0,0 +1,80 @@
+package tp.acecs2103.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.testutil.TypicalTasks;
+
+/**
+ * Measures reading and saving task lists of different sizes with {@link JsonTaskListStorage}.
+ * Each operation takes up to seconds on the largest task lists, so fewer and longer iterations are run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class JsonTaskListStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Path folder;
+    private TaskList taskList;
+    private JsonTaskListStorage readStorage;
+    private JsonTaskListStorage saveStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("benchmark");
+        taskList = TypicalTasks.getLargeTaskList(size);
+        readStorage = new JsonTaskListStorage(folder.resolve("read.json"));
+        readStorage.saveTaskList(taskList);
+        saveStorage = new JsonTaskListStorage(folder.resolve("save.json"));
+    }
+
+    /**
+     * Deletes the files written.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public Optional<TaskList> read() throws DataConversionException {
+        return readStorage.readTaskList();
+    }
+
+    /**
+     * Saves the task list, which also moves the file saved before into the backups.
+     */
+    @Benchmark
+    public JsonTaskListStorage save() throws IOException {
+        saveStorage.saveTaskList(taskList);
+        return saveStorage;
+    }
+}
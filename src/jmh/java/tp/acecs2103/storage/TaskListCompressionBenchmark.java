@@ -0,0 +1,90 @@
+package tp.acecs2103.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.testutil.TypicalTasks;
+
+/**
+ * Compares reading and saving task lists of different sizes as plain and compressed JSON and binary files.
+ * The format of each file is given by its name, as for the task list file of the app. The size of each file is
+ * printed when it is first written.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskListCompressionBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"tasklist.json", "tasklist.json.gz", "tasklist.json.deflate", "tasklist.bin", "tasklist.bin.gz"})
+    private String fileName;
+
+    private Path folder;
+    private TaskList taskList;
+    private TaskListStorage readStorage;
+    private TaskListStorage saveStorage;
+
+    /**
+     * Writes the task list to be read, and prepares an empty folder for the task list to be saved.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("benchmark");
+        taskList = TypicalTasks.getLargeTaskList(size);
+        Path readFile = Files.createDirectory(folder.resolve("read")).resolve(fileName);
+        readStorage = StorageManager.createTaskListStorageForName(readFile, false, FileCompression.NONE);
+        readStorage.saveTaskList(taskList);
+        System.out.printf("%n%d tasks in %s: %d bytes%n", size, fileName, Files.size(readFile));
+        Path saveFile = Files.createDirectory(folder.resolve("save")).resolve(fileName);
+        saveStorage = StorageManager.createTaskListStorageForName(saveFile, false, FileCompression.NONE);
+    }
+
+    /**
+     * Deletes the files written.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public Optional<TaskList> read() throws DataConversionException, IOException {
+        return readStorage.readTaskList();
+    }
+
+    /**
+     * Saves the task list, which also moves the file saved before into the backups.
+     */
+    @Benchmark
+    public TaskListStorage save() throws IOException {
+        saveStorage.saveTaskList(taskList);
+        return saveStorage;
+    }
+}
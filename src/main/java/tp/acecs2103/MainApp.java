@@ -1,17 +1,20 @@
 package tp.acecs2103;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import tp.acecs2103.commons.core.Config;
 import tp.acecs2103.commons.core.LogsCenter;
 import tp.acecs2103.commons.core.Version;
 import tp.acecs2103.commons.exceptions.DataConversionException;
 import tp.acecs2103.commons.util.ConfigUtil;
+import tp.acecs2103.commons.util.FileUtil;
 import tp.acecs2103.commons.util.StringUtil;
 import tp.acecs2103.logic.Logic;
 import tp.acecs2103.logic.LogicManager;
@@ -21,12 +24,13 @@ import tp.acecs2103.model.ReadOnlyUserPrefs;
 import tp.acecs2103.model.TaskList;
 import tp.acecs2103.model.UserPrefs;
 import tp.acecs2103.model.util.SampleDataUtil;
-import tp.acecs2103.storage.JsonTaskListStorage;
+import tp.acecs2103.storage.FileCompression;
 import tp.acecs2103.storage.JsonUserPrefsStorage;
 import tp.acecs2103.storage.Storage;
 import tp.acecs2103.storage.StorageManager;
-import tp.acecs2103.storage.TaskListStorage;
+import tp.acecs2103.storage.TaskListFileWatcher;
 import tp.acecs2103.storage.UserPrefsStorage;
+import tp.acecs2103.storage.WriteBehindTaskListStorage;
 import tp.acecs2103.ui.Ui;
 import tp.acecs2103.ui.UiManager;
 
@@ -38,6 +42,10 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(0, 6, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final String MESSAGE_TASK_LIST_RELOADED = "Reloaded %1$d changed tasks from %2$s";
+    private static final String MESSAGE_TASK_LIST_RECOVERED = "The data file %1$s could not be read, so the tasks "
+            + "were restored from its newest readable backup. Changes made after that backup are kept aside in the "
+            + "files ending with .corrupt next to it.";
 
     protected Ui ui;
     protected Logic logic;
@@ -45,6 +53,11 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private WriteBehindTaskListStorage taskListStorage;
+    private TaskListFileWatcher taskListWatcher;
+    /** Message shown to the user once the UI has started, or null if there is none. */
+    private String startupMessage;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing Ace CS2103/T ]===========================");
@@ -55,22 +68,86 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TaskListStorage taskListStorage = new JsonTaskListStorage(userPrefs.getTaskListFilePath());
+        taskListStorage = new WriteBehindTaskListStorage(StorageManager.createIncrementalTaskListStorage(
+                userPrefs.getTaskListFilePath(), userPrefs.isTaskListFilePrettyPrinted(),
+                userPrefs.isTaskListFileCompressed() ? FileCompression.GZIP : FileCompression.NONE),
+                config.getSaveFlushIntervalMillis(), config.getMaxUnsavedMillis());
         storage = new StorageManager(taskListStorage, userPrefsStorage);
 
         initLogging(config);
 
+        deleteTempFiles(userPrefs.getTaskListFilePath());
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
+        taskListStorage.setFailureHandler(e -> Platform.runLater(() ->
+                ui.showFeedbackToUser(LogicManager.FILE_OPS_ERROR_MESSAGE + e)));
+        initTaskListWatcher(userPrefs, config);
+    }
+
+    /**
+     * Deletes the temporary files left next to the task list file, or among its shards, by saves which were
+     * interrupted by a crash.
+     */
+    private void deleteTempFiles(Path taskListFilePath) {
+        Path directory = Files.isDirectory(taskListFilePath)
+                ? taskListFilePath
+                : taskListFilePath.toAbsolutePath().getParent();
+        try {
+            int count = FileUtil.deleteTempFiles(directory);
+            if (count > 0) {
+                logger.info("Deleted " + count + " temporary files left by interrupted saves in " + directory);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to delete temporary files in " + directory + ": " + e);
+        }
+    }
+
+    /**
+     * Starts watching the task list file, so that changes made to it by other programs are merged into the model
+     * instead of being overwritten by the next save.
+     * Changes are read without the journal of the file, which the model was loaded with and which may be outdated.
+     */
+    private void initTaskListWatcher(ReadOnlyUserPrefs userPrefs, Config config) {
+        try {
+            taskListWatcher = new TaskListFileWatcher(StorageManager.createTaskListStorage(
+                    userPrefs.getTaskListFilePath(), userPrefs.isTaskListFilePrettyPrinted(),
+                    userPrefs.isTaskListFileCompressed() ? FileCompression.GZIP : FileCompression.NONE),
+                    config.getFileWatchDebounceMillis(), taskList -> Platform.runLater(() -> reloadTaskList(taskList)));
+        } catch (IOException e) {
+            logger.warning("Changes made to the data file by other programs will not be noticed: " + e);
+            return;
+        }
+        taskListStorage.setWriteHandler(taskListWatcher::markOwnWrite);
+        taskListWatcher.start();
+    }
+
+    /**
+     * Merges {@code taskList}, read from the task list file after it was changed by another program, into the model
+     * and saves the merged tasks, so that the journal of the file agrees with it.
+     */
+    private void reloadTaskList(TaskList taskList) {
+        int changeCount = model.mergeTaskList(taskList);
+        if (changeCount == 0) {
+            return;
+        }
+        logger.info("Merged " + changeCount + " tasks changed outside the application");
+        try {
+            storage.saveTaskList(model.getTaskList());
+        } catch (IOException e) {
+            logger.warning("Failed to save reloaded task list: " + e);
+        }
+        ui.showFeedbackToUser(String.format(MESSAGE_TASK_LIST_RELOADED, changeCount, storage.getTaskListFilePath()));
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found.
+     * If {@code storage}'s address book is not in the correct format, it is recovered from its newest readable
+     * backup, and the user is told so once the UI has started. An empty address book will be used instead if there
+     * is no such backup, or errors occur when reading.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<TaskList> taskListOptional;
@@ -83,8 +160,8 @@ public class MainApp extends Application {
             initialData = taskListOptional.orElseGet(SampleDataUtil::getSampleTaskList);
             logger.info("The size of task list:" + initialData.size());
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty TaskList");
-            initialData = new TaskList();
+            logger.severe("Data file not in the correct format. Will be recovering it from its backups: " + e);
+            initialData = recoverTaskList(storage);
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty TaskList");
             initialData = new TaskList();
@@ -93,6 +170,24 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the TaskList recovered from the backups of {@code storage}'s data file, which is not in the correct
+     * format, or an empty TaskList if it cannot be recovered.
+     */
+    private TaskList recoverTaskList(Storage storage) {
+        try {
+            Optional<TaskList> taskListOptional = storage.recoverTaskList();
+            if (taskListOptional.isPresent()) {
+                startupMessage = String.format(MESSAGE_TASK_LIST_RECOVERED, storage.getTaskListFilePath());
+                return taskListOptional.get();
+            }
+            logger.severe("Data file has no readable backup. Will be starting with an empty TaskList");
+        } catch (DataConversionException | IOException e) {
+            logger.severe("Problem while recovering the data file. Will be starting with an empty TaskList: " + e);
+        }
+        return new TaskList();
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -169,6 +264,9 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting Ace CS2103/T " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (startupMessage != null) {
+            ui.showFeedbackToUser(startupMessage);
+        }
     }
 
     @Override
@@ -179,5 +277,9 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (taskListWatcher != null) {
+            taskListWatcher.close();
+        }
+        taskListStorage.close();
     }
 }
@@ -15,6 +15,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveFlushIntervalMillis = 500;
+    private long maxUnsavedMillis = 5000;
+    private long fileWatchDebounceMillis = 500;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +35,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public long getSaveFlushIntervalMillis() {
+        return saveFlushIntervalMillis;
+    }
+
+    public void setSaveFlushIntervalMillis(long saveFlushIntervalMillis) {
+        this.saveFlushIntervalMillis = saveFlushIntervalMillis;
+    }
+
+    public long getMaxUnsavedMillis() {
+        return maxUnsavedMillis;
+    }
+
+    public void setMaxUnsavedMillis(long maxUnsavedMillis) {
+        this.maxUnsavedMillis = maxUnsavedMillis;
+    }
+
+    public long getFileWatchDebounceMillis() {
+        return fileWatchDebounceMillis;
+    }
+
+    public void setFileWatchDebounceMillis(long fileWatchDebounceMillis) {
+        this.fileWatchDebounceMillis = fileWatchDebounceMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +71,16 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && saveFlushIntervalMillis == o.saveFlushIntervalMillis
+                && maxUnsavedMillis == o.maxUnsavedMillis
+                && fileWatchDebounceMillis == o.fileWatchDebounceMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveFlushIntervalMillis, maxUnsavedMillis,
+                fileWatchDebounceMillis);
     }
 
     @Override
@@ -57,6 +88,9 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nSave flush interval : " + saveFlushIntervalMillis + "ms");
+        sb.append("\nMaximum unsaved time : " + maxUnsavedMillis + "ms");
+        sb.append("\nFile watch debounce : " + fileWatchDebounceMillis + "ms");
         return sb.toString();
     }
 
@@ -54,9 +54,9 @@ public class AppUtil {
         LocalDate weekOne = LocalDate.of(2020, 8, 7);
         int difference = (int) weekOne.until(currentTime, ChronoUnit.DAYS);
         if (difference / 7 <= 6) {
-            return new WeekNumber(Integer.toString(difference / 7 + 1));
+            return WeekNumber.of(Integer.toString(difference / 7 + 1));
         } else {
-            return new WeekNumber(Integer.toString(difference / 7));
+            return WeekNumber.of(Integer.toString(difference / 7));
         }
 
     }
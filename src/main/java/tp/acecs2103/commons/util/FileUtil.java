@@ -1,10 +1,20 @@
 package tp.acecs2103.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
 
 /**
  * Writes and reads files
@@ -12,6 +22,9 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    /** Names of the temporary files written by {@link #writeAtomically(Path, ContentWriter)}. */
+    private static final Pattern TEMP_FILE_NAME = Pattern.compile(".+\\.\\d+" + Pattern.quote(TEMP_FILE_EXTENSION));
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -77,7 +90,111 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Replaces the content of {@code file} with what {@code contentWriter} writes, creating the file and its missing
+     * parent directories if needed. If writing fails or the system crashes, the file keeps either its old content
+     * or all of the new content: the content is written to a temporary file in the same directory, forced to disk,
+     * and then renamed over {@code file}. The file keeps its permissions where the file system has POSIX permissions.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = createTempFile(directory, file.getFileName().toString());
+        try {
+            copyPermissions(file, tempFile);
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                contentWriter.write(out);
+            }
+            // the writer may have closed the stream, so the file is forced through a channel of its own
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        forceDirectory(directory);
+    }
+
+    /**
+     * Deletes the temporary files left in {@code directory} by writes of {@link #writeAtomically(Path, ContentWriter)}
+     * which were interrupted by a crash. This must only be called while nothing is being written to the directory.
+     *
+     * @return the number of files deleted.
+     */
+    public static int deleteTempFiles(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        int count = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (TEMP_FILE_NAME.matcher(file.getFileName().toString()).matches() && Files.isRegularFile(file)) {
+                    Files.delete(file);
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Creates a new file in {@code directory} named after {@code fileName}, with the permissions any new file gets,
+     * unlike {@link Files#createTempFile}, which makes the file readable only by its owner.
+     */
+    private static Path createTempFile(Path directory, String fileName) throws IOException {
+        while (true) {
+            long suffix = ThreadLocalRandom.current().nextLong(Long.MAX_VALUE);
+            try {
+                return Files.createFile(directory.resolve(fileName + "." + suffix + TEMP_FILE_EXTENSION));
+            } catch (FileAlreadyExistsException e) {
+                // try another name
+            }
+        }
+    }
+
+    /**
+     * Gives {@code target} the permissions of {@code source}, if {@code source} exists on a file system with POSIX
+     * permissions, so that replacing {@code source} with {@code target} does not change them.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        PosixFileAttributeView sourceView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (sourceView == null || !Files.exists(source)) {
+            return;
+        }
+        Files.setPosixFilePermissions(target, sourceView.readAttributes().permissions());
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk, so that a file renamed into it survives a crash.
+     * Some platforms cannot open directories, in which case the rename is left to the file system.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // not supported on this platform
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
     }
 
 }
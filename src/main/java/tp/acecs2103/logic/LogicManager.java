@@ -2,12 +2,15 @@ package tp.acecs2103.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import tp.acecs2103.commons.core.GuiSettings;
 import tp.acecs2103.commons.core.LogsCenter;
+import tp.acecs2103.commons.exceptions.DataConversionException;
 import tp.acecs2103.logic.commands.Command;
 import tp.acecs2103.logic.commands.CommandResult;
+import tp.acecs2103.logic.commands.TaskRecordFiles;
 import tp.acecs2103.logic.commands.exceptions.CommandException;
 import tp.acecs2103.logic.parser.TaskListParser;
 import tp.acecs2103.logic.parser.exceptions.ParseException;
@@ -15,6 +18,7 @@ import tp.acecs2103.model.Model;
 import tp.acecs2103.model.TaskList;
 import tp.acecs2103.model.UiTaskList;
 import tp.acecs2103.model.exceptions.InvalidTaskListOperationException;
+import tp.acecs2103.model.task.Task;
 import tp.acecs2103.storage.Storage;
 
 /**
@@ -27,6 +31,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final TaskListParser taskListParser;
+    private final TaskRecordFiles taskRecordFiles;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -35,6 +40,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         taskListParser = new TaskListParser();
+        taskRecordFiles = new StorageTaskRecordFiles(storage);
     }
 
     @Override
@@ -44,12 +50,16 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = taskListParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        long version = model.getTaskList().getVersion();
+        commandResult = command.execute(model, taskRecordFiles);
 
-        try {
-            storage.saveTaskList(model.getTaskList());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        // commands which only change the tasks displayed leave the version as it is, so nothing is written
+        if (model.getTaskList().getVersion() != version) {
+            try {
+                storage.saveTaskList(model.getTaskList());
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
         }
 
         return commandResult;
@@ -80,4 +90,25 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * Reads and writes the files which tasks are imported from and exported to through {@code Storage}.
+     */
+    private static class StorageTaskRecordFiles implements TaskRecordFiles {
+        private final Storage storage;
+
+        StorageTaskRecordFiles(Storage storage) {
+            this.storage = storage;
+        }
+
+        @Override
+        public List<Task> readTasks(Path filePath) throws DataConversionException, IOException {
+            return storage.readTaskRecords(filePath);
+        }
+
+        @Override
+        public int writeTasks(TaskList taskList, Path filePath) throws IOException {
+            return storage.writeTaskRecords(taskList, filePath);
+        }
+    }
 }
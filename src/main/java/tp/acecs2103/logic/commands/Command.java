@@ -18,4 +18,19 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException, InvalidTaskListOperationException;
 
+    /**
+     * Executes the command and returns the result message.
+     * Commands which import tasks from or export tasks to a file access it through {@code taskRecordFiles}, while
+     * other commands are executed as by {@link #execute(Model)}.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param taskRecordFiles {@code TaskRecordFiles} through which the command accesses files.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public CommandResult execute(Model model, TaskRecordFiles taskRecordFiles)
+            throws CommandException, InvalidTaskListOperationException {
+        return execute(model);
+    }
+
 }
@@ -0,0 +1,57 @@
+package tp.acecs2103.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import tp.acecs2103.logic.commands.exceptions.CommandException;
+import tp.acecs2103.model.Model;
+
+/**
+ * Exports all tasks to a CSV file, week by week, or to an iCalendar file, as one event on the deadline of each task
+ * in the order of the deadlines.
+ * The tasks are written one at a time straight from the task list, without being copied first.
+ */
+public class ExportCommand extends FileCommand {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports all tasks to a CSV file, or the tasks with deadlines to an iCalendar file.\n"
+            + "Parameters: FILE_PATH (ending in .csv or .ics)\n"
+            + "Example: " + COMMAND_WORD + " data/deadlines.ics";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d tasks to %2$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Failed to export tasks to %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to export the tasks to {@code filePath}.
+     */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, TaskRecordFiles taskRecordFiles) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(taskRecordFiles);
+        int count;
+        try {
+            count = taskRecordFiles.writeTasks(model.getTaskList(), filePath);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, filePath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, count, filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && filePath.equals(((ExportCommand) other).filePath)); // state check
+    }
+}
@@ -0,0 +1,24 @@
+package tp.acecs2103.logic.commands;
+
+import tp.acecs2103.logic.commands.exceptions.CommandException;
+import tp.acecs2103.model.Model;
+
+/**
+ * Represents a command which imports tasks from or exports tasks to a file, through the {@code TaskRecordFiles}
+ * it is executed with rather than by accessing the file itself.
+ */
+public abstract class FileCommand extends Command {
+
+    public static final String MESSAGE_FILES_UNAVAILABLE = "Files cannot be accessed by this command.";
+
+    @Override
+    public abstract CommandResult execute(Model model, TaskRecordFiles taskRecordFiles) throws CommandException;
+
+    /**
+     * Fails, as the command cannot be executed without access to files.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(MESSAGE_FILES_UNAVAILABLE);
+    }
+}
@@ -2,6 +2,9 @@ package tp.acecs2103.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.Objects;
+
 import tp.acecs2103.commons.core.Messages;
 import tp.acecs2103.logic.commands.exceptions.CommandException;
 import tp.acecs2103.logic.parser.exceptions.ParseException;
@@ -17,16 +20,23 @@ public class FilterCommand extends Command {
             + "Parameters: w/WEEK_NUMBER(optional)  "
             + " k/KEYWORD(done or pending) "
             + " l/DEADLINE_TYPE(official or customised)\n "
+            + "Or: k/due f/FROM_DATE u/UNTIL_DATE\n "
+            + "Or: k/next n/NUMBER_OF_TASKS\n "
             + "Example:\n filter k/done \n"
             + "filter w/1 k/done\n"
             + "filter k/pending l/official\n"
-            + "filter w/11 k/pending l/official";
+            + "filter w/11 k/pending l/official\n"
+            + "filter k/due f/2020-10-01 u/2020-10-14\n"
+            + "filter k/next n/5";
 
     public static final String MESSAGE_SUCCESS = "Filtered task list displayed according to given criteria: ";
 
     private final String keyword;
     private final String ddlType; // optional, only for pending tasks
     private final WeekNumber weekNumber; //optional
+    private final LocalDate fromDate; // only for tasks due in a date range
+    private final LocalDate untilDate; // only for tasks due in a date range
+    private final int count; // only for the next tasks due
 
     /**
      * Creates an FilterCommand to display tasks that fulfill given criteria.
@@ -42,6 +52,9 @@ public class FilterCommand extends Command {
         this.keyword = keyword;
         this.ddlType = null;
         this.weekNumber = null;
+        this.fromDate = null;
+        this.untilDate = null;
+        this.count = 0;
     }
 
     /**
@@ -57,6 +70,9 @@ public class FilterCommand extends Command {
         this.keyword = keyword;
         this.ddlType = null;
         this.weekNumber = weekNumber;
+        this.fromDate = null;
+        this.untilDate = null;
+        this.count = 0;
     }
 
     /**
@@ -73,6 +89,9 @@ public class FilterCommand extends Command {
         this.keyword = keyword;
         this.ddlType = ddlType;
         this.weekNumber = null;
+        this.fromDate = null;
+        this.untilDate = null;
+        this.count = 0;
     }
 
     /**
@@ -89,11 +108,61 @@ public class FilterCommand extends Command {
         this.keyword = keyword;
         this.ddlType = ddlType;
         this.weekNumber = weekNumber;
+        this.fromDate = null;
+        this.untilDate = null;
+        this.count = 0;
+    }
+
+    /**
+     * Creates an FilterCommand to display pending tasks due from {@code fromDate} to {@code untilDate},
+     * both inclusive, ordered by deadline.
+     */
+    public FilterCommand(LocalDate fromDate, LocalDate untilDate) throws ParseException {
+        requireNonNull(fromDate);
+        requireNonNull(untilDate);
+        if (fromDate.isAfter(untilDate)) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    FilterCommand.MESSAGE_USAGE));
+        }
+        this.keyword = "due";
+        this.ddlType = null;
+        this.weekNumber = null;
+        this.fromDate = fromDate;
+        this.untilDate = untilDate;
+        this.count = 0;
+    }
+
+    /**
+     * Creates an FilterCommand to display the next {@code count} pending tasks due from today onwards,
+     * ordered by deadline.
+     */
+    public FilterCommand(int count) throws ParseException {
+        if (count <= 0) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    FilterCommand.MESSAGE_USAGE));
+        }
+        this.keyword = "next";
+        this.ddlType = null;
+        this.weekNumber = null;
+        this.fromDate = null;
+        this.untilDate = null;
+        this.count = count;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
+        if (keyword.equals("due")) {
+            model.filterTasksDueBetween(fromDate, untilDate);
+            return new CommandResult(MESSAGE_SUCCESS + "\nStatus: pending\nDue: " + fromDate + " to " + untilDate
+                    + "\n-->" + String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW, model.getUiTaskList().size()));
+        }
+        if (keyword.equals("next")) {
+            model.filterNextDueTasks(count);
+            return new CommandResult(MESSAGE_SUCCESS + "\nStatus: pending\nDue: next " + count + " tasks"
+                    + "\n-->" + String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW, model.getUiTaskList().size()));
+        }
+
         boolean isDone = (keyword.equals("done"));
         boolean byOfficialDdl = (ddlType == null) ? false : ddlType.equals("official");
 
@@ -116,9 +185,12 @@ public class FilterCommand extends Command {
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
-                || (other instanceof AddCommand // instanceof handles nulls
+                || (other instanceof FilterCommand // instanceof handles nulls
                 && keyword.equals(((FilterCommand) other).keyword)
-                && ddlType.equals(((FilterCommand) other).ddlType)
-                && weekNumber == ((FilterCommand) other).weekNumber);
+                && Objects.equals(ddlType, ((FilterCommand) other).ddlType)
+                && Objects.equals(weekNumber, ((FilterCommand) other).weekNumber)
+                && Objects.equals(fromDate, ((FilterCommand) other).fromDate)
+                && Objects.equals(untilDate, ((FilterCommand) other).untilDate)
+                && count == ((FilterCommand) other).count);
     }
 }
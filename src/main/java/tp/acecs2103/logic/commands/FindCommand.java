@@ -15,8 +15,9 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all tasks with "
             + "the specified keywords (case-insensitive) in description or remark.\n"
-            + "Parameters: KEYWORD\n"
-            + "Example: " + COMMAND_WORD + " submit";
+            + "Keywords can be combined with AND / OR, where AND binds tighter than OR.\n"
+            + "Parameters: KEYWORD [AND|OR KEYWORD]...\n"
+            + "Example: " + COMMAND_WORD + " submit AND tp OR quiz";
 
     private final String keyword;
 
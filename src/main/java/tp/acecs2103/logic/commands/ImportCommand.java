@@ -0,0 +1,70 @@
+package tp.acecs2103.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.logic.commands.exceptions.CommandException;
+import tp.acecs2103.model.Model;
+import tp.acecs2103.model.task.Task;
+
+/**
+ * Imports tasks from a CSV or iCalendar file, adding the tasks with new indexes and replacing the tasks with the
+ * indexes already in the task list.
+ * The file is read one task at a time, and all of its tasks are applied as a single change, so the task list is
+ * saved and displayed again only once. If any task in the file is invalid, no task is imported.
+ */
+public class ImportCommand extends FileCommand {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports tasks from a CSV or iCalendar file, replacing the tasks with the same indexes.\n"
+            + "Parameters: FILE_PATH (ending in .csv or .ics)\n"
+            + "Example: " + COMMAND_WORD + " data/tasks.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d tasks from %2$s: %3$d added, %4$d replaced";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File %1$s does not exist";
+    public static final String MESSAGE_IMPORT_FAILED = "Failed to import tasks from %1$s: %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the tasks in {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, TaskRecordFiles taskRecordFiles) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(taskRecordFiles);
+        List<Task> tasks;
+        try {
+            tasks = taskRecordFiles.readTasks(filePath);
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath), e);
+        } catch (DataConversionException e) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, filePath, e.getCause().getMessage()), e);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, filePath, e.getMessage()), e);
+        }
+
+        int addedCount = tasks.isEmpty() ? 0 : model.upsertTasks(tasks);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, tasks.size(), filePath, addedCount,
+                tasks.size() - addedCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath)); // state check
+    }
+}
@@ -0,0 +1,29 @@
+package tp.acecs2103.logic.commands;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.model.task.Task;
+
+/**
+ * Reads and writes the CSV and iCalendar files which tasks are imported from and exported to.
+ * Commands access these files only through this interface, which the Logic component provides from its Storage.
+ */
+public interface TaskRecordFiles {
+    /**
+     * Reads all tasks in the file at {@code filePath}.
+     * @throws DataConversionException if any task in the file is not valid.
+     * @throws IOException if there was any problem reading from the file.
+     */
+    List<Task> readTasks(Path filePath) throws DataConversionException, IOException;
+
+    /**
+     * Replaces the content of the file at {@code filePath} with the tasks of {@code taskList}.
+     * @return the number of tasks written, which leaves out the tasks the format of the file cannot hold.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    int writeTasks(TaskList taskList, Path filePath) throws IOException;
+}
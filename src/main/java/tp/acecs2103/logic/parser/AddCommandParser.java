@@ -52,11 +52,11 @@ public class AddCommandParser implements Parser<AddCommand> {
 
         String index =
                 ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get());
-        Index indexObject = new Index(index);
+        Index indexObject = Index.of(index);
 
         int weekNumber =
                 ParserUtil.parseWeekNumber(argMultimap.getValue(PREFIX_WEEK_NUMBER).get());
-        WeekNumber weekNumberObject = new WeekNumber(Integer.toString(weekNumber));
+        WeekNumber weekNumberObject = WeekNumber.of(Integer.toString(weekNumber));
 
         String description =
                 ParserUtil.parseDescription(argMultimap.getValue(PREFIX_DESCRIPTION).get());
@@ -1,9 +1,8 @@
 package tp.acecs2103.logic.parser;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -12,11 +11,43 @@ import java.util.Optional;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * Keys are numbered slots rather than hash map entries, and values are kept in a single array in insertion order,
+ * as there are only a few of either.
  */
 public class ArgumentMultimap {
+    /** Slot of the preamble, which is keyed by the empty prefix. */
+    static final int PREAMBLE_SLOT = 0;
+    /** Slot of a prefix which is not a key of this map. */
+    static final int NO_SLOT = -1;
 
-    /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private static final Prefix[] NO_PREFIXES = new Prefix[0];
+    private static final int MIN_CAPACITY = 4;
+
+    /** Keys other than the preamble; the slot of {@code prefixes[i]} is {@code i + 1}. */
+    private Prefix[] prefixes;
+    /** Slot of every value, in insertion order. */
+    private int[] slots;
+    /** Every value, in insertion order. */
+    private String[] values;
+    private int size;
+
+    /**
+     * Creates an empty {@code ArgumentMultimap}.
+     */
+    public ArgumentMultimap() {
+        this(NO_PREFIXES);
+    }
+
+    /**
+     * Creates an empty {@code ArgumentMultimap} with room for one value of each of {@code prefixes} and the preamble,
+     * without copying {@code prefixes}.
+     */
+    ArgumentMultimap(Prefix[] prefixes) {
+        this.prefixes = prefixes;
+        int capacity = Math.max(MIN_CAPACITY, prefixes.length + 1);
+        slots = new int[capacity];
+        values = new String[capacity];
+    }
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -26,17 +57,57 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        int slot = getSlot(prefix);
+        if (slot == NO_SLOT) {
+            prefixes = Arrays.copyOf(prefixes, prefixes.length + 1);
+            prefixes[prefixes.length - 1] = prefix;
+            slot = prefixes.length;
+        }
+        put(slot, argValue);
+    }
+
+    /**
+     * Associates the specified argument value with the key in {@code slot}.
+     */
+    void put(int slot, String argValue) {
+        if (size == values.length) {
+            slots = Arrays.copyOf(slots, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        slots[size] = slot;
+        values[size] = argValue;
+        size++;
+    }
+
+    /**
+     * Returns the slot of {@code prefix}, or {@code NO_SLOT} if it is not a key of this map.
+     */
+    int getSlot(Prefix prefix) {
+        if (prefix.getPrefix().isEmpty()) {
+            return PREAMBLE_SLOT;
+        }
+        for (int i = 0; i < prefixes.length; i++) {
+            if (prefixes[i] == prefix || prefixes[i].equals(prefix)) {
+                return i + 1;
+            }
+        }
+        return NO_SLOT;
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.of("") : Optional.of(values.get(values.size() - 1));
+        return getValue(getSlot(prefix));
+    }
+
+    private Optional<String> getValue(int slot) {
+        for (int i = size - 1; i >= 0 && slot != NO_SLOT; i--) {
+            if (slots[i] == slot) {
+                return Optional.of(values[i]);
+            }
+        }
+        return Optional.of("");
     }
 
     /**
@@ -45,16 +116,20 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        int slot = getSlot(prefix);
+        List<String> argValues = new ArrayList<>();
+        for (int i = 0; i < size && slot != NO_SLOT; i++) {
+            if (slots[i] == slot) {
+                argValues.add(values[i]);
+            }
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return argValues;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(PREAMBLE_SLOT).orElse("");
     }
 }
@@ -1,5 +1,7 @@
 package tp.acecs2103.logic.parser;
 
+import java.util.List;
+
 /**
  * Contains Command Line Interface (CLI) syntax definitions common to multiple commands
  */
@@ -15,4 +17,12 @@ public class CliSyntax {
     public static final Prefix PREFIX_CATEGORY = new Prefix("a/");
     public static final Prefix PREFIX_KEYWORD = new Prefix("k/");
     public static final Prefix PREFIX_DDLTYPE = new Prefix("l/");
+    public static final Prefix PREFIX_FROM_DATE = new Prefix("f/");
+    public static final Prefix PREFIX_UNTIL_DATE = new Prefix("u/");
+    public static final Prefix PREFIX_COUNT = new Prefix("n/");
+
+    /** All prefixes, which {@link ArgumentTokenizer} recognizes in a single pass over an arguments string. */
+    public static final List<Prefix> PREFIXES = List.of(PREFIX_INDEX, PREFIX_WEEK_NUMBER, PREFIX_DESCRIPTION,
+            PREFIX_OFFICIAL_DEADLINE, PREFIX_CUSTOMIZED_DEADLINE, PREFIX_REMARK, PREFIX_TYPE, PREFIX_CATEGORY,
+            PREFIX_KEYWORD, PREFIX_DDLTYPE, PREFIX_FROM_DATE, PREFIX_UNTIL_DATE, PREFIX_COUNT);
 }
@@ -26,7 +26,7 @@ public class DeadlineCommandParser implements Parser<DeadlineCommand> {
         }
 
         String indexParsed = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_INDEX).get());
-        Index index = new Index(indexParsed);
+        Index index = Index.of(indexParsed);
         LocalDate customizedDeadline =
                 ParserUtil.parseCustomizedDeadline(argMultimap.getValue(PREFIX_CUSTOMIZED_DEADLINE).get());
         return new DeadlineCommand(index, new CustomizedDeadline(customizedDeadline.toString(), customizedDeadline));
@@ -18,7 +18,7 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
     public DeleteCommand parse(String args) throws ParseException {
         try {
             String indexParsed = ParserUtil.parseIndex(args);
-            Index index = new Index(indexParsed);
+            Index index = Index.of(indexParsed);
             return new DeleteCommand(index);
         } catch (ParseException pe) {
             throw new ParseException(
@@ -13,7 +13,7 @@ public class DoneCommandParser implements Parser<DoneCommand> {
     public DoneCommand parse(String args) throws ParseException {
         try {
             String indexParsed = ParserUtil.parseIndex(args);
-            Index index = new Index(indexParsed);
+            Index index = Index.of(indexParsed);
             return new DoneCommand(index);
         } catch (ParseException pe) {
             throw new ParseException(
@@ -35,7 +35,7 @@ public class EditCommandParser implements Parser<EditCommand> {
 
         try {
             String indexParsed = ParserUtil.parseIndex(argMultimap.getValue(CliSyntax.PREFIX_INDEX).get());
-            index = new Index(indexParsed);
+            index = Index.of(indexParsed);
         } catch (ParseException pe) {
             throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
                     EditCommand.MESSAGE_USAGE), pe);
@@ -45,7 +45,7 @@ public class EditCommandParser implements Parser<EditCommand> {
 
         if (!argMultimap.getValue(CliSyntax.PREFIX_WEEK_NUMBER).get().equals("")) {
             int weekNumberParsed = parseWeekNumber(argMultimap.getValue(CliSyntax.PREFIX_WEEK_NUMBER).get());
-            editTaskDescriptor.setWeekNumber(new WeekNumber(Integer.toString(weekNumberParsed)));
+            editTaskDescriptor.setWeekNumber(WeekNumber.of(Integer.toString(weekNumberParsed)));
         }
         if (!argMultimap.getValue(CliSyntax.PREFIX_DESCRIPTION).get().equals("")) {
             String descriptionParsed = ParserUtil.parseDescription(
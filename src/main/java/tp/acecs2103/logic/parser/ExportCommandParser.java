@@ -0,0 +1,26 @@
+package tp.acecs2103.logic.parser;
+
+import tp.acecs2103.commons.core.Messages;
+import tp.acecs2103.logic.commands.ExportCommand;
+import tp.acecs2103.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns a ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        try {
+            return new ExportCommand(ParserUtil.parseTaskRecordFilePath(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -1,8 +1,11 @@
 package tp.acecs2103.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static tp.acecs2103.logic.parser.CliSyntax.PREFIX_COUNT;
 import static tp.acecs2103.logic.parser.CliSyntax.PREFIX_DDLTYPE;
+import static tp.acecs2103.logic.parser.CliSyntax.PREFIX_FROM_DATE;
 import static tp.acecs2103.logic.parser.CliSyntax.PREFIX_KEYWORD;
+import static tp.acecs2103.logic.parser.CliSyntax.PREFIX_UNTIL_DATE;
 import static tp.acecs2103.logic.parser.CliSyntax.PREFIX_WEEK_NUMBER;
 
 import java.util.stream.Stream;
@@ -19,8 +22,8 @@ public class FilterCommandParser implements Parser<FilterCommand> {
     public FilterCommand parse(String args) throws ParseException, CommandException {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(
-                        args, CliSyntax.PREFIX_WEEK_NUMBER, CliSyntax.PREFIX_KEYWORD, CliSyntax.PREFIX_DDLTYPE);
+                ArgumentTokenizer.tokenize(args, PREFIX_WEEK_NUMBER, PREFIX_KEYWORD, PREFIX_DDLTYPE,
+                        PREFIX_FROM_DATE, PREFIX_UNTIL_DATE, PREFIX_COUNT);
 
         if (!anyPrefixPresent(argMultimap,
                 PREFIX_WEEK_NUMBER, PREFIX_KEYWORD, PREFIX_DDLTYPE)
@@ -29,6 +32,15 @@ public class FilterCommandParser implements Parser<FilterCommand> {
                     String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
         }
 
+        String keyword = argMultimap.getValue(PREFIX_KEYWORD).get();
+        if (keyword.equals("due") || keyword.equals("next")) {
+            return parseDueTasksFilter(argMultimap, keyword);
+        }
+        if (anyPrefixPresent(argMultimap, PREFIX_FROM_DATE, PREFIX_UNTIL_DATE, PREFIX_COUNT)) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+
         if (!argMultimap.getValue(CliSyntax.PREFIX_KEYWORD).get().equals("")
                 && argMultimap.getValue(CliSyntax.PREFIX_WEEK_NUMBER).get().equals("")
                 && argMultimap.getValue(CliSyntax.PREFIX_DDLTYPE).get().equals("")) {
@@ -39,7 +51,7 @@ public class FilterCommandParser implements Parser<FilterCommand> {
                 && argMultimap.getValue(CliSyntax.PREFIX_DDLTYPE).get().equals("")) {
             return new FilterCommand(
                     argMultimap.getValue(CliSyntax.PREFIX_KEYWORD).get(),
-                    new WeekNumber(argMultimap.getValue(CliSyntax.PREFIX_WEEK_NUMBER).get()));
+                    WeekNumber.of(argMultimap.getValue(CliSyntax.PREFIX_WEEK_NUMBER).get()));
         }
         if (!argMultimap.getValue(CliSyntax.PREFIX_KEYWORD).get().equals("")
                 && argMultimap.getValue(CliSyntax.PREFIX_WEEK_NUMBER).get().equals("")
@@ -54,11 +66,35 @@ public class FilterCommandParser implements Parser<FilterCommand> {
             return new FilterCommand(
                     argMultimap.getValue(CliSyntax.PREFIX_KEYWORD).get(),
                     argMultimap.getValue(CliSyntax.PREFIX_DDLTYPE).get(),
-                    new WeekNumber(argMultimap.getValue(CliSyntax.PREFIX_WEEK_NUMBER).get()));
+                    WeekNumber.of(argMultimap.getValue(CliSyntax.PREFIX_WEEK_NUMBER).get()));
         }
         return new FilterCommand(argMultimap.getValue(CliSyntax.PREFIX_KEYWORD).get());
     }
 
+    /**
+     * Parses a filter of pending tasks by deadline: {@code k/due f/FROM_DATE u/UNTIL_DATE} for the tasks due in a date
+     * range, or {@code k/next n/NUMBER_OF_TASKS} for the next tasks due.
+     */
+    private static FilterCommand parseDueTasksFilter(ArgumentMultimap argMultimap, String keyword)
+            throws ParseException {
+        if (anyPrefixPresent(argMultimap, PREFIX_WEEK_NUMBER, PREFIX_DDLTYPE)) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+        }
+        if (keyword.equals("next")) {
+            if (!argMultimap.getValue(PREFIX_COUNT).get().isEmpty()
+                    && !anyPrefixPresent(argMultimap, PREFIX_FROM_DATE, PREFIX_UNTIL_DATE)) {
+                return new FilterCommand(ParserUtil.parseCount(argMultimap.getValue(PREFIX_COUNT).get()));
+            }
+        } else if (!argMultimap.getValue(PREFIX_FROM_DATE).get().isEmpty()
+                && !argMultimap.getValue(PREFIX_UNTIL_DATE).get().isEmpty()
+                && !anyPrefixPresent(argMultimap, PREFIX_COUNT)) {
+            return new FilterCommand(ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM_DATE).get()),
+                    ParserUtil.parseDate(argMultimap.getValue(PREFIX_UNTIL_DATE).get()));
+        }
+        throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
     /**
      * Returns true if any of the prefixes does not contain empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
@@ -0,0 +1,26 @@
+package tp.acecs2103.logic.parser;
+
+import tp.acecs2103.commons.core.Messages;
+import tp.acecs2103.logic.commands.ImportCommand;
+import tp.acecs2103.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns a ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        try {
+            return new ImportCommand(ParserUtil.parseTaskRecordFilePath(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -16,6 +16,6 @@ public class ListCommandParser implements Parser<ListCommand> {
         if (!WeekNumber.isValidWeekNumber(Integer.toString(weekNumber))) {
             throw new ParseException(ParserUtil.MESSAGE_INVALID_WEEKNUMBER);
         }
-        return new ListCommand(new WeekNumber(Integer.toString(weekNumber)));
+        return new ListCommand(WeekNumber.of(Integer.toString(weekNumber)));
     }
 }
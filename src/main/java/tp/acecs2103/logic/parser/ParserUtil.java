@@ -2,13 +2,18 @@ package tp.acecs2103.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 
 import tp.acecs2103.commons.core.index.Index;
+import tp.acecs2103.commons.util.FileUtil;
 import tp.acecs2103.commons.util.StringUtil;
 import tp.acecs2103.logic.parser.exceptions.ParseException;
 import tp.acecs2103.model.task.TaskCategory;
 import tp.acecs2103.model.task.WeekNumber;
+import tp.acecs2103.storage.TaskRecordFormat;
 
 
 /**
@@ -24,6 +29,12 @@ public class ParserUtil {
             + "the form of YYYY-MM-DD.\nNote boundary for year, month and days.\n"
             + "E.g. 2020-15-0 is an invalid deadline. \nPlease try again!";
 
+    public static final String MESSAGE_INVALID_DATE = "Invalid date format. A date should be in "
+            + "the form of YYYY-MM-DD.\nPlease try again!";
+
+    public static final String MESSAGE_INVALID_COUNT = "Invalid number of tasks. It should be a positive integer."
+            + "\nPlease try again!";
+
     public static final String MESSAGE_INVALID_CATEGORY = "Invalid category format. "
             + "There are only 4 categories for CS2103/T tasks: \n Ip / Tp / Topic / Admin\n"
             + "Note the capitalisation. \nPlease try again!";
@@ -31,6 +42,9 @@ public class ParserUtil {
     public static final String MESSAGE_INVALID_TYPE = "Invalid type. "
             + "\nPlease try again!";
 
+    public static final String MESSAGE_INVALID_FILE_PATH = "Invalid file path. A file path cannot be empty, "
+            + "and should end in .csv or .ics.\nPlease try again!";
+
     public static final String MESSAGE_MISSING_WEEKNUMBER = "Week number is missing in your command. "
             + "\nPlease try again!";
 
@@ -132,6 +146,34 @@ public class ParserUtil {
         return result;
     }
 
+    /**
+     * Parses a date in the form of YYYY-MM-DD.
+     * @param date
+     * @throws ParseException if the date is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE);
+        }
+    }
+
+    /**
+     * Parses a positive number of tasks.
+     * @param count
+     * @throws ParseException if the number is not a positive integer.
+     */
+    public static int parseCount(String count) throws ParseException {
+        requireNonNull(count);
+        String trimmedCount = count.trim();
+        if (!trimmedCount.matches("[1-9][0-9]{0,8}")) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return Integer.parseInt(trimmedCount);
+    }
+
     /**
      * Parses remark.
      * @param remark
@@ -174,4 +216,22 @@ public class ParserUtil {
             throw new ParseException(MESSAGE_INVALID_CATEGORY);
         }
     }
+
+    /**
+     * Parses a file path, which must be a valid path ending in the extension of a {@code TaskRecordFormat}.
+     * Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the file path is invalid.
+     */
+    public static Path parseTaskRecordFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty() || !FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        Path path = Paths.get(trimmedFilePath);
+        if (path.getFileName() == null || TaskRecordFormat.forFileName(path).isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        return path;
+    }
 }
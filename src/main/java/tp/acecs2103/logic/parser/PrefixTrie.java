@@ -0,0 +1,119 @@
+package tp.acecs2103.logic.parser;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A trie of prefixes, which finds the prefix starting at a position of a string by reading it one character at a
+ * time, however many prefixes there are.
+ * Nodes are kept in parallel arrays rather than as objects, and matching allocates nothing.
+ */
+final class PrefixTrie {
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    /** The trie of all {@link CliSyntax} prefixes, which is shared by all parsers. */
+    private static final PrefixTrie CLI_SYNTAX_TRIE = new PrefixTrie(CliSyntax.PREFIXES);
+
+    /** The character read to reach each node. */
+    private final char[] nodeChars;
+    /** The first child of each node, or {@code NONE}. */
+    private final int[] firstChildren;
+    /** The next sibling of each node, or {@code NONE}. */
+    private final int[] nextSiblings;
+    /** The prefix ending at each node, or null. */
+    private final Prefix[] nodePrefixes;
+    private int nodeCount;
+
+    private PrefixTrie(List<Prefix> prefixes) {
+        int capacity = 1;
+        for (Prefix prefix : prefixes) {
+            capacity += prefix.getPrefix().length();
+        }
+        nodeChars = new char[capacity];
+        firstChildren = new int[capacity];
+        nextSiblings = new int[capacity];
+        nodePrefixes = new Prefix[capacity];
+        addNode(ROOT, '\0');
+        for (Prefix prefix : prefixes) {
+            add(prefix);
+        }
+    }
+
+    /**
+     * Returns a trie recognizing at least {@code prefixes}, which is the shared trie of all {@link CliSyntax}
+     * prefixes unless some of {@code prefixes} are not among them.
+     */
+    static PrefixTrie forPrefixes(Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            if (!CLI_SYNTAX_TRIE.contains(prefix)) {
+                return new PrefixTrie(Arrays.asList(prefixes));
+            }
+        }
+        return CLI_SYNTAX_TRIE;
+    }
+
+    /**
+     * Returns the longest prefix of this trie which {@code string} starts with at {@code fromIndex},
+     * or null if there is none.
+     */
+    Prefix match(String string, int fromIndex) {
+        Prefix match = null;
+        int node = ROOT;
+        for (int i = fromIndex; i < string.length(); i++) {
+            node = findChild(node, string.charAt(i));
+            if (node == NONE) {
+                break;
+            }
+            if (nodePrefixes[node] != null) {
+                match = nodePrefixes[node];
+            }
+        }
+        return match;
+    }
+
+    private boolean contains(Prefix prefix) {
+        String string = prefix.getPrefix();
+        int node = ROOT;
+        for (int i = 0; i < string.length() && node != NONE; i++) {
+            node = findChild(node, string.charAt(i));
+        }
+        return node != NONE && prefix.equals(nodePrefixes[node]);
+    }
+
+    private void add(Prefix prefix) {
+        String string = prefix.getPrefix();
+        if (string.isEmpty()) {
+            return;
+        }
+        int node = ROOT;
+        for (int i = 0; i < string.length(); i++) {
+            int child = findChild(node, string.charAt(i));
+            if (child == NONE) {
+                child = addNode(node, string.charAt(i));
+            }
+            node = child;
+        }
+        nodePrefixes[node] = prefix;
+    }
+
+    private int findChild(int node, char c) {
+        int child = firstChildren[node];
+        while (child != NONE && nodeChars[child] != c) {
+            child = nextSiblings[child];
+        }
+        return child;
+    }
+
+    private int addNode(int parent, char c) {
+        int node = nodeCount++;
+        nodeChars[node] = c;
+        firstChildren[node] = NONE;
+        nextSiblings[node] = NONE;
+        if (node != ROOT) {
+            nextSiblings[node] = firstChildren[parent];
+            firstChildren[parent] = node;
+        }
+        return node;
+    }
+}
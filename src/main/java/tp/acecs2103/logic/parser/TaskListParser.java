@@ -11,11 +11,13 @@ import tp.acecs2103.logic.commands.DeleteCommand;
 import tp.acecs2103.logic.commands.DoneCommand;
 import tp.acecs2103.logic.commands.EditCommand;
 import tp.acecs2103.logic.commands.ExitCommand;
+import tp.acecs2103.logic.commands.ExportCommand;
 import tp.acecs2103.logic.commands.FilterCommand;
 import tp.acecs2103.logic.commands.FindCommand;
 import tp.acecs2103.logic.commands.GetCommand;
 import tp.acecs2103.logic.commands.HelpCommand;
 import tp.acecs2103.logic.commands.HomeCommand;
+import tp.acecs2103.logic.commands.ImportCommand;
 import tp.acecs2103.logic.commands.ListCommand;
 import tp.acecs2103.logic.commands.UndoneCommand;
 import tp.acecs2103.logic.commands.exceptions.CommandException;
@@ -87,6 +89,12 @@ public class TaskListParser {
 
         case HomeCommand.COMMAND_WORD:
             return new HomeCommand();
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
         default:
             throw new ParseException(Messages.MESSAGE_UNKNOWN_COMMAND);
         }
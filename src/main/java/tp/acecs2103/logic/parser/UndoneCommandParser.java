@@ -13,7 +13,7 @@ public class UndoneCommandParser implements Parser<UndoneCommand> {
     public UndoneCommand parse(String args) throws ParseException {
         try {
             String indexParsed = ParserUtil.parseIndex(args);
-            Index index = new Index(indexParsed);
+            Index index = Index.of(indexParsed);
             return new UndoneCommand(index);
         } catch (ParseException pe) {
             throw new ParseException(
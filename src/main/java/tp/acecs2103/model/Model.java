@@ -1,6 +1,8 @@
 package tp.acecs2103.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -61,6 +63,20 @@ public interface Model {
      */
     void setTaskList(TaskList taskList);
 
+    /**
+     * Changes the task list data to the data in {@code taskList}, replacing only the tasks which differ.
+     *
+     * @return the number of tasks removed, added or replaced.
+     */
+    int mergeTaskList(TaskList taskList);
+
+    /**
+     * Adds the given tasks, replacing the tasks with the same indexes, as a single change of the task list.
+     *
+     * @return the number of tasks added.
+     */
+    int upsertTasks(Collection<Task> tasks);
+
     /** Returns the TaskList */
     TaskList getTaskList();
 
@@ -111,6 +127,16 @@ public interface Model {
      */
     void filterTasks(boolean isDone, boolean byOfficialDeadline, WeekNumber weekNumber);
 
+    /**
+     * Lists pending tasks due from {@code from} to {@code to}, both inclusive, ordered by deadline.
+     */
+    void filterTasksDueBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Lists the next {@code count} pending tasks due from today onwards, ordered by deadline.
+     */
+    void filterNextDueTasks(int count);
+
 
     /**
      * Sets a customized deadline to a certain.
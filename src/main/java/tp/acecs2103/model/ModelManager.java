@@ -3,6 +3,8 @@ package tp.acecs2103.model;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -37,7 +39,8 @@ public class ModelManager implements Model {
 
         this.taskList = new TaskList(taskList);
         this.userPrefs = new UserPrefs(userPrefs);
-        this.uiTaskList = new UiTaskList(this.taskList.getUiTaskList());
+        this.uiTaskList = new UiTaskList(this.taskList);
+        this.taskList.addListener(uiTaskList);
         logger.info("The size of uitasklist is: " + this.uiTaskList.size());
     }
 
@@ -48,7 +51,8 @@ public class ModelManager implements Model {
         this.taskList = new TaskList();
         logger.info("The size of tasklist is: " + taskList.size());
         this.userPrefs = new UserPrefs();
-        this.uiTaskList = new UiTaskList(taskList.getUiTaskList());
+        this.uiTaskList = new UiTaskList(taskList);
+        this.taskList.addListener(uiTaskList);
     }
 
     //=========== UserPrefs ==================================================================================
@@ -94,6 +98,17 @@ public class ModelManager implements Model {
         this.taskList.resetData(taskList);
     }
 
+    @Override
+    public int mergeTaskList(TaskList taskList) {
+        return this.taskList.merge(taskList);
+    }
+
+    @Override
+    public int upsertTasks(Collection<Task> tasks) {
+        requireNonNull(tasks);
+        return taskList.upsertAll(tasks);
+    }
+
     @Override
     public TaskList getTaskList() {
         return taskList;
@@ -107,7 +122,7 @@ public class ModelManager implements Model {
 
     @Override
     public void addTask(Task task) {
-        uiTaskList.addAll(taskList.add(task));
+        taskList.add(task);
     }
 
     @Override
@@ -119,7 +134,7 @@ public class ModelManager implements Model {
     @Override
     public void deleteTask(Index index) throws ModelException {
         try {
-            uiTaskList.addAll(taskList.delete(index));
+            taskList.delete(index);
         } catch (InvalidTaskListOperationException e) {
             throw new ModelException(e.getMessage());
         }
@@ -127,12 +142,12 @@ public class ModelManager implements Model {
 
     @Override
     public void markTaskAsDone(Index index) throws ModelException {
-        uiTaskList.addAll(taskList.done(index));
+        taskList.done(index);
     }
 
     @Override
     public void markTaskAsPending(Index index) throws ModelException {
-        uiTaskList.addAll(taskList.undone(index));
+        taskList.undone(index);
     }
 
     @Override
@@ -140,6 +155,16 @@ public class ModelManager implements Model {
         uiTaskList.addAll(taskList.filter(isDone, byOfficialDeadline, weekNumber));
     }
 
+    @Override
+    public void filterTasksDueBetween(LocalDate from, LocalDate to) {
+        uiTaskList.addAll(taskList.dueBetween(from, to));
+    }
+
+    @Override
+    public void filterNextDueTasks(int count) {
+        uiTaskList.addAll(taskList.nextDue(LocalDate.now(), count));
+    }
+
     @Override
     public void findTasks(String keyword) {
         uiTaskList.addAll(taskList.find(keyword));
@@ -147,14 +172,14 @@ public class ModelManager implements Model {
 
     @Override
     public void listTasks(WeekNumber weekNumber) {
-        uiTaskList.addAll(taskList.list(weekNumber));
+        taskList.list(weekNumber);
     };
 
     @Override
     public void deadlineTask(Index index, CustomizedDeadline deadline) throws
             ModelException {
         try {
-            uiTaskList.addAll(taskList.deadline(index, deadline));
+            taskList.deadline(index, deadline);
         } catch (InvalidTaskListOperationException e) {
             throw new ModelException(e.getMessage());
         }
@@ -163,7 +188,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setTask(Task target, Task editedTask) {
-        uiTaskList.addAll(taskList.resetTask(target, editedTask));
+        taskList.resetTask(target, editedTask);
     };
 
     //=========== UiTaskList ================================================================================
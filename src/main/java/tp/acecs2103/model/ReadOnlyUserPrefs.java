@@ -13,4 +13,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getTaskListFilePath();
 
+    boolean isTaskListFilePrettyPrinted();
+
+    boolean isTaskListFileCompressed();
+
 }
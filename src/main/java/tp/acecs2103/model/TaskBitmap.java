@@ -0,0 +1,110 @@
+package tp.acecs2103.model;
+
+import java.util.Arrays;
+
+/**
+ * A compact set of task positions, one bit per task, used to index boolean attributes of tasks.
+ * Bitmaps of the same task list can be combined with {@link #and(TaskBitmap)} to answer queries without visiting
+ * every task.
+ */
+class TaskBitmap {
+    private static final int WORD_SIZE = 64;
+
+    private long[] words;
+
+    /**
+     * Creates an empty bitmap.
+     */
+    public TaskBitmap() {
+        words = new long[1];
+    }
+
+    private TaskBitmap(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Checks whether the bit at {@code position} is set.
+     */
+    public boolean get(int position) {
+        int word = position / WORD_SIZE;
+        return word < words.length && (words[word] & (1L << position)) != 0;
+    }
+
+    /**
+     * Sets the bit at {@code position} to {@code value}.
+     */
+    public void set(int position, boolean value) {
+        int word = position / WORD_SIZE;
+        if (word >= words.length) {
+            if (!value) {
+                return;
+            }
+            words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+        }
+        if (value) {
+            words[word] |= 1L << position;
+        } else {
+            words[word] &= ~(1L << position);
+        }
+    }
+
+    /**
+     * Removes the bit at {@code position}, moving every following bit one position down.
+     * This keeps the bitmap in line with a task list after the task at {@code position} is deleted.
+     */
+    public void remove(int position) {
+        int word = position / WORD_SIZE;
+        if (word >= words.length) {
+            return;
+        }
+        long lowerBits = (1L << position) - 1;
+        words[word] = (words[word] & lowerBits) | ((words[word] >>> 1) & ~lowerBits);
+        for (int i = word + 1; i < words.length; i++) {
+            words[i - 1] |= (words[i] & 1) << (WORD_SIZE - 1);
+            words[i] >>>= 1;
+        }
+    }
+
+    /**
+     * Gets the first set position at or after {@code from}, or -1 if there is none.
+     */
+    public int nextSetBit(int from) {
+        int word = from / WORD_SIZE;
+        if (word >= words.length) {
+            return -1;
+        }
+        long bits = words[word] & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                return word * WORD_SIZE + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word == words.length) {
+                return -1;
+            }
+            bits = words[word];
+        }
+    }
+
+    /**
+     * Gets the number of set bits.
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Gets a new bitmap with the bits set in both this bitmap and {@code other}.
+     */
+    public TaskBitmap and(TaskBitmap other) {
+        long[] result = Arrays.copyOf(words, Math.min(words.length, other.words.length));
+        for (int i = 0; i < result.length; i++) {
+            result[i] &= other.words[i];
+        }
+        return new TaskBitmap(result);
+    }
+}
@@ -0,0 +1,248 @@
+package tp.acecs2103.model;
+
+import java.time.LocalDate;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import tp.acecs2103.model.task.Deadline;
+import tp.acecs2103.model.task.Index;
+import tp.acecs2103.model.task.Task;
+import tp.acecs2103.model.task.WeekNumber;
+
+/**
+ * Keeps tasks ordered by one of their deadlines, so that tasks can be listed by deadline without sorting.
+ * Tasks are ordered by the day of their deadline and then by their index, and tasks without the deadline come last.
+ * Pending and done tasks are kept apart, and the pending tasks of each week are also kept on their own, so that
+ * pending tasks can be listed for one week without visiting the tasks of other weeks or the done tasks.
+ * The deadline, week and done status of a task must not change while the task is in the index; remove the task before
+ * changing them and add it back afterwards.
+ */
+class TaskDeadlineIndex {
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final Function<Task, Deadline> deadlineGetter;
+    private final TreeMap<Key, Task> pendingTasks = new TreeMap<>();
+    private final TreeMap<Key, Task> doneTasks = new TreeMap<>();
+    /** Pending tasks of each week, where map i holds week i. */
+    private final ArrayList<TreeMap<Key, Task>> pendingTasksByWeek = new ArrayList<>();
+    /** The key each task was added with, so a task can be removed after its fields are replaced. */
+    private final HashMap<Index, Key> keys = new HashMap<>();
+
+    /**
+     * Creates an empty index ordering tasks by the deadline given by {@code deadlineGetter}.
+     */
+    public TaskDeadlineIndex(Function<Task, Deadline> deadlineGetter) {
+        this.deadlineGetter = deadlineGetter;
+    }
+
+    /**
+     * Gets the deadline a task is due on in the usual sense, i.e. its customized deadline if it has one
+     * and its official deadline otherwise.
+     */
+    public static Deadline getEffectiveDeadline(Task task) {
+        return task.getCustomizedDeadline() != null ? task.getCustomizedDeadline() : task.getOfficialDeadline();
+    }
+
+    /**
+     * Adds {@code task} to the index.
+     */
+    public void add(Task task) {
+        Deadline deadline = deadlineGetter.apply(task);
+        long epochDay = deadline == null || deadline.getTimeInfo() == null
+                ? NO_DEADLINE
+                : deadline.getTimeInfo().toEpochDay();
+        Key key = new Key(epochDay, task.getIndex().getIndexValue(), task.getWeekNumber().getWeekValueInt(),
+                task.isDone());
+        Key oldKey = keys.put(task.getIndex(), key);
+        if (oldKey != null) {
+            removeKey(oldKey);
+        }
+        if (key.isDone) {
+            doneTasks.put(key, task);
+        } else {
+            pendingTasks.put(key, task);
+            getPendingTasksOfWeek(key.week).put(key, task);
+        }
+    }
+
+    /**
+     * Removes {@code task} from the index.
+     */
+    public void remove(Task task) {
+        Key key = keys.remove(task.getIndex());
+        if (key != null) {
+            removeKey(key);
+        }
+    }
+
+    private void removeKey(Key key) {
+        if (key.isDone) {
+            doneTasks.remove(key);
+        } else {
+            pendingTasks.remove(key);
+            getPendingTasksOfWeek(key.week).remove(key);
+        }
+    }
+
+    /**
+     * Gets the map holding the pending tasks of {@code week}, creating it if needed.
+     */
+    private TreeMap<Key, Task> getPendingTasksOfWeek(int week) {
+        while (pendingTasksByWeek.size() <= week) {
+            pendingTasksByWeek.add(new TreeMap<>());
+        }
+        return pendingTasksByWeek.get(week);
+    }
+
+    /**
+     * Removes all tasks from the index.
+     */
+    public void clear() {
+        pendingTasks.clear();
+        doneTasks.clear();
+        pendingTasksByWeek.clear();
+        keys.clear();
+    }
+
+    /**
+     * Gets all pending tasks in the order of their deadlines.
+     */
+    public Collection<Task> getPendingTasks() {
+        return pendingTasks.values();
+    }
+
+    /**
+     * Gets the pending tasks of {@code weekNumber} in the order of their deadlines.
+     */
+    public Collection<Task> getPendingTasks(WeekNumber weekNumber) {
+        int week = weekNumber.getWeekValueInt();
+        if (week >= pendingTasksByWeek.size()) {
+            return Collections.emptyList();
+        }
+        return pendingTasksByWeek.get(week).values();
+    }
+
+    /**
+     * Gets the pending tasks with a deadline from {@code from} to {@code to}, both inclusive, in the order of their
+     * deadlines.
+     */
+    public Collection<Task> getPendingTasksBetween(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return Collections.emptyList();
+        }
+        return pendingTasks.subMap(Key.first(from.toEpochDay()), true, Key.first(to.toEpochDay() + 1), false).values();
+    }
+
+    /**
+     * Gets the pending tasks with a deadline on or after {@code from}, in the order of their deadlines.
+     */
+    public Collection<Task> getPendingTasksFrom(LocalDate from) {
+        return getTasksFrom(pendingTasks, from).values();
+    }
+
+    /**
+     * Gets all tasks, pending or done, with a deadline, in the order of their deadlines.
+     * The tasks are read from the index as they are iterated, without being copied.
+     */
+    public Collection<Task> getTasksWithDeadline() {
+        return merge(getTasksFrom(pendingTasks, LocalDate.MIN), getTasksFrom(doneTasks, LocalDate.MIN));
+    }
+
+    private static Collection<Task> merge(SortedMap<Key, Task> first, SortedMap<Key, Task> second) {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Task> iterator() {
+                return new MergingIterator(first, second);
+            }
+
+            @Override
+            public int size() {
+                return first.size() + second.size();
+            }
+        };
+    }
+
+    private static SortedMap<Key, Task> getTasksFrom(TreeMap<Key, Task> tasks, LocalDate from) {
+        return tasks.subMap(Key.first(from.toEpochDay()), true, Key.first(NO_DEADLINE), false);
+    }
+
+    /**
+     * Iterates over the tasks of two maps in the order of their keys.
+     */
+    private static class MergingIterator implements Iterator<Task> {
+        private final Iterator<Map.Entry<Key, Task>> first;
+        private final Iterator<Map.Entry<Key, Task>> second;
+        private Map.Entry<Key, Task> nextOfFirst;
+        private Map.Entry<Key, Task> nextOfSecond;
+
+        MergingIterator(SortedMap<Key, Task> first, SortedMap<Key, Task> second) {
+            this.first = first.entrySet().iterator();
+            this.second = second.entrySet().iterator();
+            nextOfFirst = this.first.hasNext() ? this.first.next() : null;
+            nextOfSecond = this.second.hasNext() ? this.second.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextOfFirst != null || nextOfSecond != null;
+        }
+
+        @Override
+        public Task next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (nextOfSecond == null
+                    || nextOfFirst != null && nextOfFirst.getKey().compareTo(nextOfSecond.getKey()) < 0) {
+                Task task = nextOfFirst.getValue();
+                nextOfFirst = first.hasNext() ? first.next() : null;
+                return task;
+            }
+            Task task = nextOfSecond.getValue();
+            nextOfSecond = second.hasNext() ? second.next() : null;
+            return task;
+        }
+    }
+
+    /**
+     * Position of a task in the index.
+     */
+    private static class Key implements Comparable<Key> {
+        private final long epochDay;
+        private final int index;
+        /** Week and done status of the task, which tell which maps hold the key but do not order keys. */
+        private final int week;
+        private final boolean isDone;
+
+        Key(long epochDay, int index, int week, boolean isDone) {
+            this.epochDay = epochDay;
+            this.index = index;
+            this.week = week;
+            this.isDone = isDone;
+        }
+
+        /**
+         * Gets a key which comes before the keys of all tasks due on {@code epochDay}.
+         */
+        static Key first(long epochDay) {
+            return new Key(epochDay, Integer.MIN_VALUE, 0, false);
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            if (epochDay != other.epochDay) {
+                return Long.compare(epochDay, other.epochDay);
+            }
+            return Integer.compare(index, other.index);
+        }
+    }
+}
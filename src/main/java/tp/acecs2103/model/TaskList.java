@@ -2,8 +2,14 @@ package tp.acecs2103.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Objects;
 
 import tp.acecs2103.commons.util.AppUtil;
 import tp.acecs2103.logic.commands.exceptions.CommandException;
@@ -12,14 +18,37 @@ import tp.acecs2103.model.exceptions.InvalidTaskOperationException;
 import tp.acecs2103.model.task.CustomizedDeadline;
 import tp.acecs2103.model.task.Deadline;
 import tp.acecs2103.model.task.Index;
+import tp.acecs2103.model.task.Remark;
 import tp.acecs2103.model.task.Task;
+import tp.acecs2103.model.task.TaskCategory;
 import tp.acecs2103.model.task.WeekNumber;
 
 
 
 public class TaskList {
+    public static final String MESSAGE_DUPLICATE_TASK = "There is more than one task with index %s.";
+
     private ArrayList<Task> taskList;
     private WeekNumber timeRange;
+    /** Maps the index of every task to its position in {@code taskList}. */
+    private final TaskPositionIndex positions = new TaskPositionIndex();
+    /** Tasks of each week in the same order as in {@code taskList}, where bucket i holds week i. */
+    private ArrayList<ArrayList<Task>> weekBuckets = new ArrayList<>();
+    /** Keyword index over the description and remark of every task in {@code taskList}, built on the first search. */
+    private final TaskTextIndex textIndex = new TaskTextIndex(this::getTaskList);
+    /** Tasks ordered by their customized deadline if they have one, and by their official deadline otherwise. */
+    private final TaskDeadlineIndex effectiveDeadlineIndex =
+            new TaskDeadlineIndex(TaskDeadlineIndex::getEffectiveDeadline);
+    /** Tasks ordered by their official deadline. */
+    private final TaskDeadlineIndex officialDeadlineIndex = new TaskDeadlineIndex(Task::getOfficialDeadline);
+    /** Bitmaps over the positions in {@code taskList} of the tasks which are done, in each category or in each week. */
+    private TaskBitmap doneBitmap = new TaskBitmap();
+    private EnumMap<TaskCategory, TaskBitmap> categoryBitmaps = createCategoryBitmaps();
+    /** Bitmap i holds the tasks of week i. */
+    private ArrayList<TaskBitmap> weekBitmaps = new ArrayList<>();
+    private final ArrayList<TaskListChangeListener> listeners = new ArrayList<>();
+    /** Number of changes made to the tasks, which does not count changes of the time range. */
+    private long version;
 
     /**
      * Initializes a {@code TaskList} with given task list and time range.
@@ -30,6 +59,7 @@ public class TaskList {
     public TaskList(ArrayList<Task> taskList, WeekNumber timeRange) {
         this.taskList = taskList;
         this.timeRange = timeRange;
+        rebuildIndexes();
     }
 
     /**
@@ -47,6 +77,28 @@ public class TaskList {
         resetData(taskList);
     }
 
+    /**
+     * Creates a {@code TaskList} holding {@code tasks} in the same order, building all indexes in one pass.
+     * This is much faster than adding the tasks one by one for large task lists.
+     *
+     * @param tasks is the tasks to hold.
+     * @param timeRange is given time range.
+     * @throws InvalidTaskListOperationException if more than one task has the same index.
+     */
+    public static TaskList fromTasks(Collection<Task> tasks, WeekNumber timeRange)
+            throws InvalidTaskListOperationException {
+        requireNonNull(tasks);
+        requireNonNull(timeRange);
+        HashSet<Index> indexes = new HashSet<>(tasks.size() * 2);
+        for (Task task : tasks) {
+            requireNonNull(task);
+            if (!indexes.add(task.getIndex())) {
+                throw new InvalidTaskListOperationException(String.format(MESSAGE_DUPLICATE_TASK, task.getIndex()));
+            }
+        }
+        return new TaskList(new ArrayList<>(tasks), timeRange);
+    }
+
     /**
      * Resets the task list with given new data.
      *
@@ -54,13 +106,146 @@ public class TaskList {
      */
     public void resetData(TaskList newData) {
         requireNonNull(newData);
-        taskList = newData.getTaskList();
+        taskList = new ArrayList<>(newData.getTaskList());
         timeRange = newData.getTimeRange();
+        rebuildIndexes();
+        fireChange(TaskListChange.Type.RESET, null, null);
+    }
+
+    /**
+     * Registers a listener which is notified of every change made to this task list.
+     */
+    public void addListener(TaskListChangeListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener added by {@link #addListener(TaskListChangeListener)}.
+     */
+    public void removeListener(TaskListChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Notifies all listeners of a change made to this task list.
+     */
+    private void fireChange(TaskListChange.Type type, Task oldTask, Task newTask) {
+        if (type != TaskListChange.Type.VIEW_CHANGED) {
+            version++;
+        }
+        if (listeners.isEmpty()) {
+            return;
+        }
+        TaskListChange change = new TaskListChange(this, type, oldTask, newTask);
+        for (TaskListChangeListener listener : listeners) {
+            listener.onChanged(change);
+        }
+    }
+
+    /**
+     * Rebuilds all indexes over {@code taskList} from scratch.
+     */
+    private void rebuildIndexes() {
+        positions.reset(taskList);
+        weekBuckets = new ArrayList<>();
+        textIndex.clear();
+        effectiveDeadlineIndex.clear();
+        officialDeadlineIndex.clear();
+        doneBitmap = new TaskBitmap();
+        categoryBitmaps = createCategoryBitmaps();
+        weekBitmaps = new ArrayList<>();
+        for (int i = 0; i < taskList.size(); i++) {
+            Task task = taskList.get(i);
+            getWeekBucket(task.getWeekNumber()).add(task);
+            effectiveDeadlineIndex.add(task);
+            officialDeadlineIndex.add(task);
+            setBits(i, task);
+        }
+    }
+
+    private static EnumMap<TaskCategory, TaskBitmap> createCategoryBitmaps() {
+        EnumMap<TaskCategory, TaskBitmap> bitmaps = new EnumMap<>(TaskCategory.class);
+        for (TaskCategory category : TaskCategory.values()) {
+            bitmaps.put(category, new TaskBitmap());
+        }
+        return bitmaps;
+    }
+
+    /**
+     * Sets the bits of {@code position} in all bitmaps to the attributes of {@code task}.
+     */
+    private void setBits(int position, Task task) {
+        doneBitmap.set(position, task.isDone());
+        for (TaskCategory category : TaskCategory.values()) {
+            categoryBitmaps.get(category).set(position, task.getCategory() == category);
+        }
+        int week = task.getWeekNumber().getWeekValueInt();
+        while (weekBitmaps.size() <= week) {
+            weekBitmaps.add(new TaskBitmap());
+        }
+        for (int i = 0; i < weekBitmaps.size(); i++) {
+            weekBitmaps.get(i).set(position, i == week);
+        }
+    }
+
+    /**
+     * Removes {@code position} from all bitmaps after the task at {@code position} is deleted.
+     */
+    private void removeBits(int position) {
+        doneBitmap.remove(position);
+        for (TaskBitmap bitmap : categoryBitmaps.values()) {
+            bitmap.remove(position);
+        }
+        for (TaskBitmap bitmap : weekBitmaps) {
+            bitmap.remove(position);
+        }
+    }
+
+    /**
+     * Gets the bucket holding all tasks of {@code weekNumber}, creating it if needed.
+     */
+    private ArrayList<Task> getWeekBucket(WeekNumber weekNumber) {
+        int week = weekNumber.getWeekValueInt();
+        while (weekBuckets.size() <= week) {
+            weekBuckets.add(new ArrayList<>());
+        }
+        return weekBuckets.get(week);
+    }
+
+    /**
+     * Inserts {@code task} into the bucket of its week, keeping the bucket in the same order as {@code taskList}.
+     * The task must already be at its final position in {@code taskList}.
+     */
+    private void insertIntoWeekBucket(Task task) {
+        ArrayList<Task> bucket = getWeekBucket(task.getWeekNumber());
+        int position = positionOf(task.getIndex());
+        int low = 0;
+        int high = bucket.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (positionOf(bucket.get(mid).getIndex()) < position) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        bucket.add(low, task);
+    }
+
+    /**
+     * Gets the position of the task with index {@code taskIndex} in {@code taskList}.
+     *
+     * @return the position, or -1 if there is no such task.
+     */
+    private int positionOf(Index taskIndex) {
+        return positions.positionOf(taskIndex);
     }
 
 
     /**
      * Gets a array list consisting of all tasks.
+     * The returned list is backed by this task list and should not be modified directly.
      *
      * @return an ArrayList.
      */
@@ -78,6 +263,14 @@ public class TaskList {
         return timeRange;
     }
 
+    /**
+     * Gets the version of the tasks, which increases every time a task is added, removed or modified,
+     * or all data is replaced. Changing the time range does not change the version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Sets a time range for task list.
      *
@@ -85,6 +278,7 @@ public class TaskList {
      */
     public void setTimeRange(WeekNumber weekNumber) {
         timeRange = weekNumber;
+        fireChange(TaskListChange.Type.VIEW_CHANGED, null, null);
     }
 
     /**
@@ -94,12 +288,7 @@ public class TaskList {
      * @return true if it is already inside task and false if not.
      */
     public boolean hasTask(Task task) {
-        for (Task i : taskList) {
-            if (i.isSameTask(task)) {
-                return true;
-            }
-        }
-        return false;
+        return positions.contains(task.getIndex());
     }
 
     /**
@@ -108,13 +297,8 @@ public class TaskList {
      * @return a task with the required index.
      */
     public Task getTask(Index index) {
-        for (Task task: taskList) {
-            //index is stored as String in task object,// so a conversion from string to int is needed
-            if (task.getIndex().equals(index)) {
-                return task;
-            }
-        }
-        return null;
+        int position = positionOf(index);
+        return position == -1 ? null : taskList.get(position);
     }
 
     /**
@@ -123,33 +307,36 @@ public class TaskList {
      * @return a ArrayList consisting of all satisfied tasks.
      */
     public ArrayList<Task> find() {
-        ArrayList<Task> newList = new ArrayList<>();
-        for (Task task: taskList) {
-            if (task.isWeekX(timeRange)) {
-                newList.add(task);
-            }
+        int week = timeRange.getWeekValueInt();
+        if (week >= weekBuckets.size()) {
+            return new ArrayList<>();
         }
-        return newList;
+        return new ArrayList<>(weekBuckets.get(week));
     }
 
     /**
-     * Finds tasks based on new keyWord and timeRange.
+     * Finds tasks whose description or remark contains the given keyword, ignoring case.
+     * Keywords can be combined with {@code AND} and {@code OR}, e.g. {@code "tp AND submit OR quiz"}.
      *
      * @param keyWord is new keyword given by user.
-     * @return a new ArrayList to display.
+     * @return a new ArrayList to display, in the same order as the task list.
      */
     public ArrayList<Task> find(String keyWord) {
-        ArrayList<Task> newList = new ArrayList<>();
-        for (Task task: taskList) {
-            if (task.contains(keyWord)) {
-                newList.add(task);
-            }
+        requireNonNull(keyWord);
+        int[] positions = textIndex.search(keyWord).stream()
+                .mapToInt(this::positionOf)
+                .sorted()
+                .toArray();
+        ArrayList<Task> newList = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            newList.add(taskList.get(position));
         }
         return newList;
     }
 
     /**
      * Filter the task list based on criteria given.
+     * Pending tasks are ordered by deadline, and tasks without the deadline come last.
      *
      * @param isDone is the boolean value to describe if filter criteria is to display done tasks only
      * @param byOfficialDeadline is the boolean value to describe
@@ -158,35 +345,93 @@ public class TaskList {
      * @return a new ArrayList to display.
      */
     public ArrayList<Task> filter(boolean isDone, boolean byOfficialDeadline, WeekNumber weekNumber) {
-        ArrayList<Task> newList = new ArrayList<>(taskList);
-        ArrayList<Task> additionalList = new ArrayList<>();
-
         if (weekNumber != null) {
-            newList = list(weekNumber);
+            timeRange = weekNumber;
         }
 
-        for (Task task : newList) {
-            if (task.isDone() == isDone) {
-                additionalList.add(task);
-            }
+        if (isDone) {
+            return getTasks(weekNumber == null ? doneBitmap : getWeekBitmap(weekNumber).and(doneBitmap));
         }
 
-        if (!isDone) {
-            if (byOfficialDeadline) {
-                Collections.sort(additionalList);
-            } else {
+        TaskDeadlineIndex deadlineIndex = byOfficialDeadline ? officialDeadlineIndex : effectiveDeadlineIndex;
+        return new ArrayList<>(weekNumber == null
+                ? deadlineIndex.getPendingTasks()
+                : deadlineIndex.getPendingTasks(weekNumber));
+    }
+
+    /**
+     * Gets the tasks at the positions set in {@code bitmap}, in the order of the task list.
+     */
+    ArrayList<Task> getTasks(TaskBitmap bitmap) {
+        ArrayList<Task> tasks = new ArrayList<>(bitmap.cardinality());
+        for (int i = bitmap.nextSetBit(0); i != -1 && i < taskList.size(); i = bitmap.nextSetBit(i + 1)) {
+            tasks.add(taskList.get(i));
+        }
+        return tasks;
+    }
+
+    /**
+     * Gets a bitmap of the tasks in {@code category}.
+     * The returned bitmap is backed by this task list and should not be modified.
+     */
+    TaskBitmap getCategoryBitmap(TaskCategory category) {
+        return categoryBitmaps.get(category);
+    }
 
-                Collections.sort(additionalList, (o1, o2) -> {
-                    Deadline ddl1 = (o1.getCustomizedDeadline() != null)
-                            ? o1.getCustomizedDeadline() : o1.getOfficialDeadline();
-                    Deadline ddl2 = (o2.getCustomizedDeadline() != null)
-                            ? o2.getCustomizedDeadline() : o2.getOfficialDeadline();
-                    int result = ddl1.compareTo(ddl2);
-                    return result;
-                });
+    /**
+     * Gets a bitmap of the tasks in {@code weekNumber}.
+     * The returned bitmap is backed by this task list and should not be modified.
+     */
+    TaskBitmap getWeekBitmap(WeekNumber weekNumber) {
+        int week = weekNumber.getWeekValueInt();
+        return week < weekBitmaps.size() ? weekBitmaps.get(week) : new TaskBitmap();
+    }
+
+    /**
+     * Finds pending tasks due from {@code from} to {@code to}, both inclusive.
+     * A task is due on its customized deadline if it has one, and on its official deadline otherwise.
+     *
+     * @return a new ArrayList ordered by deadline.
+     */
+    public ArrayList<Task> dueBetween(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        return new ArrayList<>(effectiveDeadlineIndex.getPendingTasksBetween(from, to));
+    }
+
+    /**
+     * Finds the first {@code count} pending tasks due on or after {@code from}.
+     * A task is due on its customized deadline if it has one, and on its official deadline otherwise.
+     *
+     * @return a new ArrayList ordered by deadline.
+     */
+    public ArrayList<Task> nextDue(LocalDate from, int count) {
+        requireNonNull(from);
+        ArrayList<Task> newList = new ArrayList<>();
+        for (Task task : effectiveDeadlineIndex.getPendingTasksFrom(from)) {
+            if (newList.size() >= count) {
+                break;
             }
+            newList.add(task);
         }
-        return additionalList;
+        return newList;
+    }
+
+    /**
+     * Gets all tasks week by week, each week in the same order as the task list.
+     * The tasks are read from the week buckets as they are iterated, without being copied.
+     */
+    public Iterable<Task> inWeekOrder() {
+        return () -> weekBuckets.stream().flatMap(ArrayList::stream).iterator();
+    }
+
+    /**
+     * Gets all tasks with a deadline in the order of their deadlines, where a task is due on its customized deadline
+     * if it has one, and on its official deadline otherwise.
+     * The tasks are a read-only view of the deadline index, which is not copied.
+     */
+    public Collection<Task> inDeadlineOrder() {
+        return Collections.unmodifiableCollection(effectiveDeadlineIndex.getTasksWithDeadline());
     }
 
     /**
@@ -196,13 +441,7 @@ public class TaskList {
      * @return a array list consisting of all satisfied tasks.
      */
     public ArrayList<Task> list(WeekNumber weekNumber) {
-        timeRange = weekNumber;
-        ArrayList<Task> newList = new ArrayList<Task>();
-        for (Task task: taskList) {
-            if (task.isWeekX(weekNumber)) {
-                newList.add(task);
-            }
-        }
+        setTimeRange(weekNumber);
         return find();
     }
 
@@ -210,21 +449,32 @@ public class TaskList {
      * Initializes a task list by adding a task.
      *
      * @param task A valid task.
-     * @return a new array list after find().
      */
-    public ArrayList<Task> initialize(Task task) {
+    public void initialize(Task task) {
+        setBits(taskList.size(), task);
+        positions.add(task.getIndex());
         taskList.add(task);
-        return find();
+        getWeekBucket(task.getWeekNumber()).add(task);
+        textIndex.add(task);
+        effectiveDeadlineIndex.add(task);
+        officialDeadlineIndex.add(task);
+        fireChange(TaskListChange.Type.ADDED, null, task);
     }
 
     /**
-     * Adds a task to task list.
+     * Adds a task to task list and moves the time range to the week of the task.
      */
-    public ArrayList<Task> add(Task task) {
+    public void add(Task task) {
         timeRange = task.getWeekNumber();
 
+        setBits(taskList.size(), task);
+        positions.add(task.getIndex());
         taskList.add(task);
-        return find();
+        getWeekBucket(task.getWeekNumber()).add(task);
+        textIndex.add(task);
+        effectiveDeadlineIndex.add(task);
+        officialDeadlineIndex.add(task);
+        fireChange(TaskListChange.Type.ADDED, null, task);
     }
 
     /**
@@ -234,61 +484,64 @@ public class TaskList {
      */
 
     public boolean isCustomizedTask(Index taskIndex) {
-        int i = 0;
-        for (Task task : taskList) {
-            if (task.hasIndex(taskIndex)) {
-                break;
-            }
-            i++;
-        }
-        Task task = taskList.get(i);
-        return task.isCustomized();
+        Task task = getTask(taskIndex);
+        return task != null && task.isCustomized();
     }
 
     /**
      * Deletes a certain task.
      *
      * @param taskIndex A valid task index.
-     * @return a new array list after find().
      */
-    public ArrayList<Task> delete(Index taskIndex) throws InvalidTaskListOperationException {
-        int i = 0;
-        for (Task task : taskList) {
-            if (task.hasIndex(taskIndex)) {
-                break;
-            }
-            i++;
-        }
-        if (i == taskList.size()) {
+    public void delete(Index taskIndex) throws InvalidTaskListOperationException {
+        int i = positionOf(taskIndex);
+        if (i == -1) {
             throw new InvalidTaskListOperationException(
                     "The task that you want to delete does not exist in the task list.");
         }
-        Task task = taskList.get(i);
-        if (task.isCustomized()) {
-            taskList.remove(i);
-            return find();
+        if (taskList.get(i).isCustomized()) {
+            removeAt(i);
+            return;
         }
         throw new InvalidTaskListOperationException("The task is default task which can not be deleted.");
     }
 
+    /**
+     * Removes the task at {@code position}, whether it is customized or not.
+     * The positions of the later tasks are not rewritten, so this costs O(log n) besides moving the later tasks
+     * and bits down, which are block copies.
+     */
+    private void removeAt(int position) {
+        Task task = taskList.remove(position);
+        positions.remove(task.getIndex());
+        removeBits(position);
+        getWeekBucket(task.getWeekNumber()).remove(task);
+        textIndex.remove(task);
+        effectiveDeadlineIndex.remove(task);
+        officialDeadlineIndex.remove(task);
+        fireChange(TaskListChange.Type.REMOVED, task, null);
+    }
+
     /**
      * Mark a task as done.
      *
      * @param taskIndex A valid task index.
-     * @return a new array list after find().
      */
-    public ArrayList<Task> done(Index taskIndex) throws InvalidTaskListOperationException {
-        int i = 0;
-        for (Task task : taskList) {
-            if (task.hasIndex(taskIndex)) {
-                break;
-            }
-            i++;
+    public void done(Index taskIndex) throws InvalidTaskListOperationException {
+        Task task = getTask(taskIndex);
+        if (task == null) {
+            throw new InvalidTaskListOperationException(
+                    "The task that you want to mark as done does not exist in the task list.");
         }
-        Task task = taskList.get(i);
         if (!task.isDone()) {
+            effectiveDeadlineIndex.remove(task);
+            officialDeadlineIndex.remove(task);
             task.markAsDone();
-            return find();
+            effectiveDeadlineIndex.add(task);
+            officialDeadlineIndex.add(task);
+            doneBitmap.set(positionOf(taskIndex), true);
+            fireChange(TaskListChange.Type.UPDATED, task, task);
+            return;
         }
         throw new InvalidTaskListOperationException("The task is already marked as done.");
     }
@@ -297,20 +550,22 @@ public class TaskList {
      * Mark a task as pending.
      *
      * @param taskIndex A valid task index.
-     * @return a new array list after find().
      */
-    public ArrayList<Task> undone(Index taskIndex) throws InvalidTaskListOperationException {
-        int i = 0;
-        for (Task task : taskList) {
-            if (task.hasIndex(taskIndex)) {
-                break;
-            }
-            i++;
+    public void undone(Index taskIndex) throws InvalidTaskListOperationException {
+        Task task = getTask(taskIndex);
+        if (task == null) {
+            throw new InvalidTaskListOperationException(
+                    "The task that you want to mark as pending does not exist in the task list.");
         }
-        Task task = taskList.get(i);
         if (task.isDone()) {
+            effectiveDeadlineIndex.remove(task);
+            officialDeadlineIndex.remove(task);
             task.markAsPending();
-            return find();
+            effectiveDeadlineIndex.add(task);
+            officialDeadlineIndex.add(task);
+            doneBitmap.set(positionOf(taskIndex), false);
+            fireChange(TaskListChange.Type.UPDATED, task, task);
+            return;
         }
         throw new InvalidTaskListOperationException("The task is already marked as done.");
     }
@@ -321,28 +576,23 @@ public class TaskList {
      *
      * @param taskIndex A valid task index.
      * @param deadline A valid deadline.
-     * @return a new array list after find().
      */
-    public ArrayList<Task> deadline(Index taskIndex, CustomizedDeadline deadline)
+    public void deadline(Index taskIndex, CustomizedDeadline deadline)
             throws InvalidTaskListOperationException {
-        boolean foundTask = false;
+        Task task = getTask(taskIndex);
+        if (task == null) {
+            throw new InvalidTaskListOperationException(
+                    "The task that you want to set deadline to is not found in the task list.");
+        }
+        effectiveDeadlineIndex.remove(task);
         try {
-            for (Task task: taskList) {
-                if (task.hasIndex(taskIndex)) {
-                    task.setDeadline(deadline);
-                    foundTask = true;
-                }
-            }
+            task.setDeadline(deadline);
         } catch (InvalidTaskOperationException e) {
             throw new InvalidTaskListOperationException(e.getMessage());
+        } finally {
+            effectiveDeadlineIndex.add(task);
         }
-
-
-        if (!foundTask) {
-            throw new InvalidTaskListOperationException(
-                    "The task that you want to set deadline to is not found in the task list.");
-        }
-        return find();
+        fireChange(TaskListChange.Type.UPDATED, task, task);
     }
 
     /**
@@ -350,17 +600,125 @@ public class TaskList {
      *
      * @param target Target task.
      * @param newTask New task.
-     * @return a new array list after find().
      */
-    public ArrayList<Task> resetTask(Task target, Task newTask) {
+    public void resetTask(Task target, Task newTask) {
         requireNonNull(target);
         requireNonNull(newTask);
 
         timeRange = newTask.getWeekNumber();
+        replace(target, newTask);
+    }
 
-        int index = taskList.indexOf(target);
+    /**
+     * Replaces {@code target} with {@code newTask} at the same position, without changing the time range.
+     */
+    private void replace(Task target, Task newTask) {
+        int index = positionOf(target.getIndex());
         taskList.set(index, newTask);
-        return find();
+        setBits(index, newTask);
+        positions.replace(target.getIndex(), newTask.getIndex());
+
+        ArrayList<Task> oldBucket = getWeekBucket(target.getWeekNumber());
+        if (target.getWeekNumber().equals(newTask.getWeekNumber())) {
+            oldBucket.set(oldBucket.indexOf(target), newTask);
+        } else {
+            oldBucket.remove(target);
+            insertIntoWeekBucket(newTask);
+        }
+        textIndex.remove(target);
+        textIndex.add(newTask);
+        effectiveDeadlineIndex.remove(target);
+        effectiveDeadlineIndex.add(newTask);
+        officialDeadlineIndex.remove(target);
+        officialDeadlineIndex.add(newTask);
+        fireChange(TaskListChange.Type.UPDATED, target, newTask);
+    }
+
+    /**
+     * Changes this task list to hold the same tasks as {@code newData}, matching tasks by their index, so that only
+     * the tasks which differ are removed, added or replaced, and listeners are notified of each of them instead of
+     * the whole task list being reset. Tasks which are kept stay at their positions, new tasks are added at the end,
+     * and the time range is not changed.
+     *
+     * @return the number of tasks removed, added or replaced.
+     */
+    public int merge(TaskList newData) {
+        requireNonNull(newData);
+        HashMap<Index, Task> newTasks = new HashMap<>(newData.size() * 2);
+        for (Task task : newData.getTaskList()) {
+            newTasks.put(task.getIndex(), task);
+        }
+
+        int changeCount = 0;
+        for (int i = taskList.size() - 1; i >= 0; i--) {
+            if (!newTasks.containsKey(taskList.get(i).getIndex())) {
+                removeAt(i);
+                changeCount++;
+            }
+        }
+        for (Task newTask : newData.getTaskList()) {
+            Task task = getTask(newTask.getIndex());
+            if (task == null) {
+                initialize(newTask);
+                changeCount++;
+            } else if (!hasSameContent(task, newTask)) {
+                replace(task, newTask);
+                changeCount++;
+            }
+        }
+        return changeCount;
+    }
+
+    /**
+     * Adds every task in {@code tasks} whose index is not in this task list yet, at the end, and replaces the task
+     * with the same index at its position otherwise. Each task is matched by probing the index positions, and the
+     * whole batch is a single change: the indexes are rebuilt once and listeners are notified of a single reset
+     * instead of one change per task. If {@code tasks} holds several tasks with the same index, the last one is kept.
+     *
+     * @return the number of tasks added.
+     */
+    public int upsertAll(Collection<Task> tasks) {
+        requireNonNull(tasks);
+        int addedCount = 0;
+        for (Task task : tasks) {
+            int position = positionOf(task.getIndex());
+            if (position == -1) {
+                positions.add(task.getIndex());
+                taskList.add(task);
+                addedCount++;
+            } else {
+                taskList.set(position, task);
+            }
+        }
+        rebuildIndexes();
+        fireChange(TaskListChange.Type.RESET, null, null);
+        return addedCount;
+    }
+
+    /**
+     * Checks whether two tasks have the same content in every field, unlike {@link Task#equals(Object)}.
+     */
+    private static boolean hasSameContent(Task task, Task other) {
+        return task.getIndex().equals(other.getIndex())
+                && task.getWeekNumber().equals(other.getWeekNumber())
+                && task.getCategory() == other.getCategory()
+                && Objects.equals(task.getDescription(), other.getDescription())
+                && Objects.equals(getValue(task.getRemark()), getValue(other.getRemark()))
+                && Objects.equals(getValue(task.getOfficialDeadline()), getValue(other.getOfficialDeadline()))
+                && Objects.equals(getValue(task.getCustomizedDeadline()), getValue(other.getCustomizedDeadline()))
+                && task.isDone() == other.isDone()
+                && task.isCustomized() == other.isCustomized();
+    }
+
+    private static String getValue(Remark remark) {
+        return remark == null ? null : remark.value;
+    }
+
+    /**
+     * Gets the date of {@code deadline}, which is compared by value as {@link Deadline#equals(Object)} does not.
+     */
+    private static String getValue(Deadline deadline) {
+        return deadline == null ? null : deadline.value;
     }
 
     /**
@@ -0,0 +1,62 @@
+package tp.acecs2103.model;
+
+import tp.acecs2103.model.task.Task;
+
+/**
+ * Represents a single change made to a {@code TaskList}.
+ * Views of the task list use it to update themselves without rebuilding everything.
+ */
+public class TaskListChange {
+
+    /**
+     * Represents the kind of change made to a task list.
+     */
+    public enum Type {
+        /** A new task is added. */
+        ADDED,
+        /** An existing task is removed. */
+        REMOVED,
+        /** An existing task is modified or replaced by another task with the same index. */
+        UPDATED,
+        /** All data is replaced, so the whole view needs to be rebuilt. */
+        RESET,
+        /** Only the time range is changed, so the whole view needs to be rebuilt but no task is changed. */
+        VIEW_CHANGED
+    }
+
+    private final TaskList source;
+    private final Type type;
+    private final Task oldTask;
+    private final Task newTask;
+
+    /**
+     * Creates a {@code TaskListChange} with given details.
+     *
+     * @param source is the task list which is changed.
+     * @param type is the kind of change.
+     * @param oldTask is the task before the change, or null if there is none.
+     * @param newTask is the task after the change, or null if there is none.
+     */
+    public TaskListChange(TaskList source, Type type, Task oldTask, Task newTask) {
+        this.source = source;
+        this.type = type;
+        this.oldTask = oldTask;
+        this.newTask = newTask;
+    }
+
+    public TaskList getSource() {
+        return source;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Task getOldTask() {
+        return oldTask;
+    }
+
+    public Task getNewTask() {
+        return newTask;
+    }
+}
@@ -0,0 +1,14 @@
+package tp.acecs2103.model;
+
+/**
+ * Represents an object that is notified of every change made to a {@code TaskList}.
+ */
+@FunctionalInterface
+public interface TaskListChangeListener {
+    /**
+     * Handles a change which has just been made to a task list.
+     *
+     * @param change describes what is changed.
+     */
+    void onChanged(TaskListChange change);
+}
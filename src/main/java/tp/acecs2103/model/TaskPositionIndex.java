@@ -0,0 +1,120 @@
+package tp.acecs2103.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import tp.acecs2103.model.task.Index;
+import tp.acecs2103.model.task.Task;
+
+/**
+ * Maps the index of every task to its position in a task list, where tasks are added at the end, replaced in place
+ * and removed from anywhere.
+ * Every task is given a slot when it is added, which never changes while it is in the list, and slots are in the
+ * same order as positions. A removed slot is counted in a Fenwick tree, so that the position of a task is its slot
+ * less the number of removed slots before it. Removing a task therefore costs O(log n) instead of moving every later
+ * task, and looking up a position costs O(log n). Slots are renumbered once more of them are removed than are in use.
+ */
+class TaskPositionIndex {
+    private static final int MIN_CAPACITY = 16;
+
+    private HashMap<Index, Integer> slots = new HashMap<>();
+    /** Fenwick tree over the removed slots, where slot i is at 1-based position i + 1. */
+    private int[] removedSlots = new int[MIN_CAPACITY + 1];
+    /** Number of slots given out, which is the slot of the next task added. */
+    private int slotCount;
+    private int removedCount;
+
+    /**
+     * Replaces the content of the index with {@code tasks}, where the task at position i is given slot i.
+     */
+    public void reset(List<Task> tasks) {
+        slots = new HashMap<>(tasks.size() * 2);
+        for (int i = 0; i < tasks.size(); i++) {
+            slots.put(tasks.get(i).getIndex(), i);
+        }
+        slotCount = tasks.size();
+        clearRemovedSlots(slotCount * 2);
+    }
+
+    /**
+     * Checks whether a task with {@code taskIndex} is in the index.
+     */
+    public boolean contains(Index taskIndex) {
+        return slots.containsKey(taskIndex);
+    }
+
+    /**
+     * Gets the position of the task with {@code taskIndex}.
+     *
+     * @return the position, or -1 if there is no such task.
+     */
+    public int positionOf(Index taskIndex) {
+        Integer slot = slots.get(taskIndex);
+        return slot == null ? -1 : slot - countRemovedBefore(slot);
+    }
+
+    /**
+     * Adds a task with {@code taskIndex} at the end of the list.
+     */
+    public void add(Index taskIndex) {
+        if (slotCount + 1 >= removedSlots.length) {
+            renumber();
+        }
+        slots.put(taskIndex, slotCount++);
+    }
+
+    /**
+     * Moves the slot of the task with {@code oldIndex} to the task with {@code newIndex}, which replaces it.
+     */
+    public void replace(Index oldIndex, Index newIndex) {
+        slots.put(newIndex, slots.remove(oldIndex));
+    }
+
+    /**
+     * Removes the task with {@code taskIndex}, moving every later task one position down.
+     *
+     * @return the position the task was at, or -1 if there is no such task.
+     */
+    public int remove(Index taskIndex) {
+        Integer slot = slots.remove(taskIndex);
+        if (slot == null) {
+            return -1;
+        }
+        int position = slot - countRemovedBefore(slot);
+        for (int i = slot + 1; i < removedSlots.length; i += i & -i) {
+            removedSlots[i]++;
+        }
+        removedCount++;
+        if (removedCount > slots.size() + MIN_CAPACITY) {
+            renumber();
+        }
+        return position;
+    }
+
+    private int countRemovedBefore(int slot) {
+        int count = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            count += removedSlots[i];
+        }
+        return count;
+    }
+
+    /**
+     * Gives every task its position as its slot, and makes room for as many tasks to be added again.
+     */
+    private void renumber() {
+        if (removedCount > 0) {
+            for (Map.Entry<Index, Integer> entry : slots.entrySet()) {
+                entry.setValue(entry.getValue() - countRemovedBefore(entry.getValue()));
+            }
+        }
+        slotCount = slots.size();
+        clearRemovedSlots(slotCount * 2);
+    }
+
+    private void clearRemovedSlots(int capacity) {
+        removedSlots = new int[Math.max(MIN_CAPACITY, capacity) + 1];
+        removedCount = 0;
+    }
+}
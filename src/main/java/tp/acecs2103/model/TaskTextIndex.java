@@ -0,0 +1,226 @@
+package tp.acecs2103.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import tp.acecs2103.model.task.Index;
+import tp.acecs2103.model.task.Task;
+
+/**
+ * Inverted trigram index over the description and remark of tasks, used to answer keyword searches
+ * without scanning the whole task list.
+ * Every substring of {@code GRAM_LENGTH} characters of the lower-cased text is mapped to the tasks containing it,
+ * so a keyword of at least that length only needs to be verified against the tasks sharing its rarest trigram.
+ * Shorter keywords are verified against every task.
+ * The index is only built when the first search is made, from the tasks given by a supplier, so that loading a task
+ * list does not pay for it; until then, adding and removing tasks does nothing.
+ */
+class TaskTextIndex {
+    public static final String AND_SEPARATOR = " AND ";
+    public static final String OR_SEPARATOR = " OR ";
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Supplier<? extends Collection<Task>> allTasks;
+    /** Tasks containing each trigram, or null if the index is not built yet. */
+    private HashMap<String, HashSet<Index>> postings;
+    /** Every indexed task, which is read again to verify matches instead of keeping a lower-cased copy. */
+    private HashMap<Index, Task> tasks;
+
+    /**
+     * Creates an index over the tasks given by {@code allTasks}, which is called when the index is built.
+     */
+    public TaskTextIndex(Supplier<? extends Collection<Task>> allTasks) {
+        this.allTasks = allTasks;
+    }
+
+    /**
+     * Adds {@code task} to the index.
+     */
+    public void add(Task task) {
+        if (postings == null) {
+            return;
+        }
+        tasks.put(task.getIndex(), task);
+        for (String gram : getGrams(task)) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(task.getIndex());
+        }
+    }
+
+    /**
+     * Removes {@code task} from the index.
+     */
+    public void remove(Task task) {
+        if (postings == null) {
+            return;
+        }
+        Task indexedTask = tasks.remove(task.getIndex());
+        if (indexedTask == null) {
+            return;
+        }
+        for (String gram : getGrams(indexedTask)) {
+            HashSet<Index> indexes = postings.get(gram);
+            indexes.remove(task.getIndex());
+            if (indexes.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes all tasks from the index, which is built again from all tasks on the next search.
+     */
+    public void clear() {
+        postings = null;
+        tasks = null;
+    }
+
+    /**
+     * Finds the indexes of all tasks matching {@code query}.
+     * A query consists of keywords joined by {@code AND_SEPARATOR} and {@code OR_SEPARATOR}, where AND binds
+     * tighter than OR. A task matches a keyword if its description or remark contains the keyword, ignoring case.
+     * Parts of the query holding no keyword, such as a lone {@code AND_SEPARATOR} between two {@code OR_SEPARATOR}s,
+     * match no task.
+     *
+     * @param query is the query given by user.
+     * @return the indexes of all matching tasks, in no particular order.
+     */
+    public Set<Index> search(String query) {
+        if (postings == null) {
+            build();
+        }
+        Set<Index> result = new HashSet<>();
+        for (String conjunction : query.split(OR_SEPARATOR)) {
+            Set<Index> conjunctionResult = null;
+            for (String keyword : conjunction.split(AND_SEPARATOR)) {
+                conjunctionResult = conjunctionResult == null
+                        ? searchKeyword(keyword)
+                        : retainMatching(conjunctionResult, keyword);
+                if (conjunctionResult.isEmpty()) {
+                    break;
+                }
+            }
+            if (conjunctionResult != null) {
+                result.addAll(conjunctionResult);
+            }
+        }
+        return result;
+    }
+
+    private void build() {
+        Collection<Task> taskCollection = allTasks.get();
+        postings = new HashMap<>();
+        tasks = new HashMap<>(taskCollection.size() * 2);
+        for (Task task : taskCollection) {
+            add(task);
+        }
+    }
+
+    /**
+     * Finds the indexes of all tasks whose description or remark contains {@code keyword}, ignoring case.
+     */
+    private Set<Index> searchKeyword(String keyword) {
+        if (keyword.isEmpty()) {
+            return new HashSet<>(tasks.keySet());
+        }
+        Collection<Index> candidates = keyword.length() < GRAM_LENGTH ? tasks.keySet() : getRarestPostings(keyword);
+        return retainMatching(candidates, keyword);
+    }
+
+    /**
+     * Keeps only the indexes in {@code indexes} whose task matches {@code keyword}.
+     */
+    private Set<Index> retainMatching(Collection<Index> indexes, String keyword) {
+        Set<Index> result = new HashSet<>();
+        for (Index index : indexes) {
+            if (contains(tasks.get(index), keyword)) {
+                result.add(index);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the smallest posting list among all trigrams of {@code keyword}.
+     */
+    private Collection<Index> getRarestPostings(String keyword) {
+        HashSet<Index> rarest = null;
+        for (int start = 0; start + GRAM_LENGTH <= keyword.length(); start++) {
+            HashSet<Index> indexes = postings.get(getGram(keyword, start));
+            if (indexes == null) {
+                return Collections.emptySet();
+            }
+            if (rarest == null || indexes.size() < rarest.size()) {
+                rarest = indexes;
+            }
+        }
+        return rarest;
+    }
+
+    private static boolean contains(Task task, String keyword) {
+        return containsIgnoreCase(getDescription(task), keyword) || containsIgnoreCase(getRemark(task), keyword);
+    }
+
+    /**
+     * Checks whether {@code text} contains {@code keyword}, comparing characters lower-cased the same way as trigrams.
+     */
+    private static boolean containsIgnoreCase(String text, String keyword) {
+        if (text == null) {
+            return false;
+        }
+        for (int start = 0; start + keyword.length() <= text.length(); start++) {
+            int i = 0;
+            while (i < keyword.length()
+                    && Character.toLowerCase(text.charAt(start + i)) == Character.toLowerCase(keyword.charAt(i))) {
+                i++;
+            }
+            if (i == keyword.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getDescription(Task task) {
+        return task.getDescription() == null ? null : task.getDescription().value;
+    }
+
+    private static String getRemark(Task task) {
+        return task.getRemark() == null ? null : task.getRemark().value;
+    }
+
+    /**
+     * Gets all distinct lower-cased substrings of {@code GRAM_LENGTH} characters of the description and remark of
+     * {@code task}.
+     */
+    private static Set<String> getGrams(Task task) {
+        Set<String> grams = new HashSet<>();
+        addGrams(grams, getDescription(task));
+        addGrams(grams, getRemark(task));
+        return grams;
+    }
+
+    private static void addGrams(Set<String> grams, String text) {
+        if (text == null) {
+            return;
+        }
+        for (int start = 0; start + GRAM_LENGTH <= text.length(); start++) {
+            grams.add(getGram(text, start));
+        }
+    }
+
+    /**
+     * Gets the lower-cased trigram of {@code text} at {@code start}.
+     */
+    private static String getGram(String text, int start) {
+        char[] gram = new char[GRAM_LENGTH];
+        for (int i = 0; i < GRAM_LENGTH; i++) {
+            gram[i] = Character.toLowerCase(text.charAt(start + i));
+        }
+        return new String(gram);
+    }
+}
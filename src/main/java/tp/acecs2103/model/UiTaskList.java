@@ -10,21 +10,23 @@ import tp.acecs2103.model.task.TP;
 import tp.acecs2103.model.task.Task;
 import tp.acecs2103.model.task.TaskCategory;
 import tp.acecs2103.model.task.Topic;
+import tp.acecs2103.model.task.WeekNumber;
 
 
-public class UiTaskList {
+public class UiTaskList implements TaskListChangeListener {
     private ObservableList<Task> adminList = FXCollections.observableArrayList();
     private ObservableList<Task> topicList = FXCollections.observableArrayList();
     private ObservableList<Task> ipList = FXCollections.observableArrayList();
     private ObservableList<Task> tpList = FXCollections.observableArrayList();
-    private ArrayList<Task> combinedTaskList;
+    /** The week whose tasks are displayed, or null if the result of a search or filter is displayed. */
+    private WeekNumber displayedWeek;
 
     /**
-     * Creates a {@code UiTaskList} with given source.
-     * @param source A array list consisting of tasks which need to be displayed.
+     * Creates a {@code UiTaskList} displaying the tasks in the time range of {@code source}.
+     * @param source A task list whose current week needs to be displayed.
      */
-    public UiTaskList(ArrayList<Task> source) {
-        addAll(source);
+    public UiTaskList(TaskList source) {
+        showWeek(source);
     }
 
     /**
@@ -32,24 +34,114 @@ public class UiTaskList {
      * @param taskList A array list consisting of tasks which need to be added to {@code UiTaskList}.
      */
     public void addAll(ArrayList<Task> taskList) {
-        combinedTaskList = taskList;
-        adminList.clear();
-        topicList.clear();
-        ipList.clear();
-        tpList.clear();
+        displayedWeek = null;
+        setAll(taskList);
+    }
+
+    /**
+     * Displays all tasks in the time range of {@code source}.
+     */
+    private void showWeek(TaskList source) {
+        displayedWeek = source.getTimeRange();
+        TaskBitmap week = source.getWeekBitmap(displayedWeek);
+        adminList.setAll(source.getTasks(week.and(source.getCategoryBitmap(TaskCategory.ADMIN))));
+        topicList.setAll(source.getTasks(week.and(source.getCategoryBitmap(TaskCategory.TOPIC))));
+        ipList.setAll(source.getTasks(week.and(source.getCategoryBitmap(TaskCategory.IP))));
+        tpList.setAll(source.getTasks(week.and(source.getCategoryBitmap(TaskCategory.TP))));
+    }
+
+    /**
+     * Replaces the content of the four sub lists with {@code taskList}, split by category.
+     */
+    private void setAll(ArrayList<Task> taskList) {
+        ArrayList<Task> admins = new ArrayList<>();
+        ArrayList<Task> topics = new ArrayList<>();
+        ArrayList<Task> ips = new ArrayList<>();
+        ArrayList<Task> tps = new ArrayList<>();
         for (Task task: taskList) {
             if (TaskCategory.isAdmin(task.getCategory())) {
-                adminList.add((Admin) task);
+                admins.add((Admin) task);
             } else if (TaskCategory.isTopic(task.getCategory())) {
-                topicList.add((Topic) task);
+                topics.add((Topic) task);
             } else if (TaskCategory.isIP(task.getCategory())) {
-                ipList.add((IP) task);
+                ips.add((IP) task);
             } else if (TaskCategory.isTP(task.getCategory())) {
-                tpList.add((TP) task);
+                tps.add((TP) task);
+            }
+        }
+        adminList.setAll(admins);
+        topicList.setAll(topics);
+        ipList.setAll(ips);
+        tpList.setAll(tps);
+    }
+
+    /**
+     * Gets the sub list which displays tasks of the same category as {@code task}.
+     */
+    private ObservableList<Task> getCategoryList(Task task) {
+        switch (task.getCategory()) {
+        case ADMIN:
+            return adminList;
+        case TOPIC:
+            return topicList;
+        case IP:
+            return ipList;
+        case TP:
+            return tpList;
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Applies a change of the task list to the sub lists, touching only the rows of the changed task
+     * when the displayed week is still the time range of the task list.
+     */
+    @Override
+    public void onChanged(TaskListChange change) {
+        TaskList source = change.getSource();
+        if (change.getType() == TaskListChange.Type.RESET
+                || change.getType() == TaskListChange.Type.VIEW_CHANGED
+                || !source.getTimeRange().equals(displayedWeek)) {
+            showWeek(source);
+            return;
+        }
+
+        Task oldTask = change.getOldTask();
+        Task newTask = change.getNewTask();
+        ObservableList<Task> oldList = isDisplayed(oldTask) ? getCategoryList(oldTask) : null;
+        ObservableList<Task> newList = isDisplayed(newTask) ? getCategoryList(newTask) : null;
+        switch (change.getType()) {
+        case ADDED:
+            if (newList != null) {
+                newList.add(newTask);
+            }
+            break;
+        case REMOVED:
+            if (oldList != null) {
+                oldList.remove(oldTask);
             }
+            break;
+        case UPDATED:
+            int row = oldList == null ? -1 : oldList.indexOf(oldTask);
+            if (oldList == newList && row != -1) {
+                oldList.set(row, newTask);
+            } else if (oldList != null || newList != null) {
+                showWeek(source);
+            }
+            break;
+        default:
+            showWeek(source);
         }
     }
 
+    /**
+     * Checks whether {@code task} belongs to the displayed week.
+     */
+    private boolean isDisplayed(Task task) {
+        return task != null && task.getWeekNumber().equals(displayedWeek);
+    }
+
     /**
      * Gets a list consisting of all admin tasks.
      */
@@ -15,6 +15,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path taskListFilePath = Paths.get("data" , "tasklist.json");
+    private boolean isTaskListFilePrettyPrinted = true;
+    private boolean isTaskListFileCompressed = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +38,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setTaskListFilePath(newUserPrefs.getTaskListFilePath());
+        setTaskListFilePrettyPrinted(newUserPrefs.isTaskListFilePrettyPrinted());
+        setTaskListFileCompressed(newUserPrefs.isTaskListFileCompressed());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +60,22 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.taskListFilePath = taskListFilePath;
     }
 
+    public boolean isTaskListFilePrettyPrinted() {
+        return isTaskListFilePrettyPrinted;
+    }
+
+    public void setTaskListFilePrettyPrinted(boolean isTaskListFilePrettyPrinted) {
+        this.isTaskListFilePrettyPrinted = isTaskListFilePrettyPrinted;
+    }
+
+    public boolean isTaskListFileCompressed() {
+        return isTaskListFileCompressed;
+    }
+
+    public void setTaskListFileCompressed(boolean isTaskListFileCompressed) {
+        this.isTaskListFileCompressed = isTaskListFileCompressed;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +88,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && taskListFilePath.equals(o.taskListFilePath);
+                && taskListFilePath.equals(o.taskListFilePath)
+                && isTaskListFilePrettyPrinted == o.isTaskListFilePrettyPrinted
+                && isTaskListFileCompressed == o.isTaskListFileCompressed;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, taskListFilePath);
+        return Objects.hash(guiSettings, taskListFilePath, isTaskListFilePrettyPrinted, isTaskListFileCompressed);
     }
 
     @Override
@@ -81,6 +103,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + taskListFilePath);
+        sb.append("\nPretty print data file : " + isTaskListFilePrettyPrinted);
+        sb.append("\nCompress data file : " + isTaskListFileCompressed);
         return sb.toString();
     }
 
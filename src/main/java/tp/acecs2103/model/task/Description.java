@@ -37,4 +37,9 @@ public class Description {
                 && value.equals(((Description) other).value));
     }
 
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
 }
@@ -3,6 +3,8 @@ package tp.acecs2103.model.task;
 import static java.util.Objects.requireNonNull;
 import static tp.acecs2103.commons.util.AppUtil.checkArgument;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Task's name in the task manager.
  * Guarantees: immutable; is valid as declared in {@link #isValidIndex(String)}
@@ -11,28 +13,37 @@ public class Index {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Your index format is wrong. Indexes should always start with 0, "
-                    + "only contain numbers, be at least 4 digits long and should not be blank.\n"
+                    + "only contain numbers, be 3 to 10 digits long and should not be blank.\n"
                     + "E.g. 0101: first task of week 1\n"
                     + "01314: 14th task fo week 13";
 
     /**
      *  The first character of the index must be a '0',
      *  followed by a number from '1' to '9',
-     *  with any number of '0' to '9' padded behind.
+     *  with up to eight of '0' to '9' padded behind, so that the index fits into an int.
      */
-    public static final String VALIDATION_REGEX = "\\A[0][1-9][0-9]+\\z";
+    public static final String VALIDATION_REGEX = "\\A[0][1-9][0-9]{1,8}\\z";
+
+    /** The only instance of each index, so that indexes can be compared by identity. */
+    private static final ConcurrentHashMap<Integer, Index> INDEXES = new ConcurrentHashMap<>();
 
     public final String value;
+    private final int intValue;
+
+    private Index(int index) {
+        value = "0" + index;
+        intValue = index;
+    }
 
     /**
-     * Constructs a {@code Index}.
+     * Gets the {@code Index} with the given value.
      *
      * @param index A valid index.
      */
-    public Index(String index) {
+    public static Index of(String index) {
         requireNonNull(index);
         checkArgument(isValidIndex(index), MESSAGE_CONSTRAINTS);
-        value = index;
+        return INDEXES.computeIfAbsent(Integer.parseInt(index), Index::new);
     }
 
     /**
@@ -43,7 +54,7 @@ public class Index {
     }
 
     public int getIndexValue() {
-        return Integer.parseInt(value);
+        return intValue;
     }
 
     @Override
@@ -53,10 +64,11 @@ public class Index {
 
     @Override
     public boolean equals(Object other) {
-        return other == this
-                || (other instanceof Index
-                && value.equals(((Index) other).value));
+        return other == this;
     }
 
-    // TODO: check if hashCode needed
+    @Override
+    public int hashCode() {
+        return intValue;
+    }
 }
@@ -1,6 +1,7 @@
 package tp.acecs2103.model.task;
 
 import java.time.LocalDate;
+import java.util.Objects;
 import java.util.logging.Logger;
 
 import tp.acecs2103.commons.core.LogsCenter;
@@ -240,4 +241,9 @@ public class Task implements Comparable<Task> {
                 && weekNumber.equals(((Task) other).weekNumber)
                 && description.equals(((Task) other).description));
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, weekNumber, description);
+    }
 }
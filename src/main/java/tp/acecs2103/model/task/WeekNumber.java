@@ -15,17 +15,44 @@ public class WeekNumber {
     public static final String MESSAGE_CONSTRAINTS =
             "Week number can only be integer in range [1,13].";
 
+    private static final int MIN_WEEK = 1;
+    private static final int MAX_WEEK = 13;
+    /** The only instance of each week, so that week numbers can be compared by identity. */
+    private static final WeekNumber[] WEEKS = new WeekNumber[MAX_WEEK + 1];
+
+    static {
+        for (int week = MIN_WEEK; week <= MAX_WEEK; week++) {
+            WEEKS[week] = new WeekNumber(week);
+        }
+    }
+
     public final String value;
+    private final int intValue;
+
+    private WeekNumber(int weekNumber) {
+        value = Integer.toString(weekNumber);
+        intValue = weekNumber;
+    }
 
     /**
-     * Constructs a {@code WeekNumber}.
+     * Gets the {@code WeekNumber} of a week.
      *
      * @param weekNumber A valid week number.
      */
-    public WeekNumber(String weekNumber) {
+    public static WeekNumber of(String weekNumber) {
         requireNonNull(weekNumber);
         checkArgument(isValidWeekNumber(weekNumber), MESSAGE_CONSTRAINTS);
-        value = weekNumber;
+        return WEEKS[Integer.parseInt(weekNumber)];
+    }
+
+    /**
+     * Gets the {@code WeekNumber} of a week.
+     *
+     * @param weekNumber A week number in range [1,13].
+     */
+    public static WeekNumber of(int weekNumber) {
+        checkArgument(weekNumber >= MIN_WEEK && weekNumber <= MAX_WEEK, MESSAGE_CONSTRAINTS);
+        return WEEKS[weekNumber];
     }
 
     /**
@@ -36,16 +63,16 @@ public class WeekNumber {
      */
     public static boolean isValidWeekNumber(String test) {
         int weekNumberInteger = Integer.parseInt(test);
-        return weekNumberInteger >= 1 && weekNumberInteger <= 13;
+        return weekNumberInteger >= MIN_WEEK && weekNumberInteger <= MAX_WEEK;
     }
 
     /**
-     * Get the int value from the WeekNumber String.
+     * Get the int value of the WeekNumber.
      *
-     * @return int value of String.
+     * @return int value of the week.
      */
     public int getWeekValueInt() {
-        return Integer.parseInt(value);
+        return intValue;
     }
 
     @Override
@@ -55,8 +82,11 @@ public class WeekNumber {
 
     @Override
     public boolean equals(Object other) {
-        return other == this
-                || (other instanceof WeekNumber
-                && value.equals(((WeekNumber) other).value));
+        return other == this;
+    }
+
+    @Override
+    public int hashCode() {
+        return intValue;
     }
 }
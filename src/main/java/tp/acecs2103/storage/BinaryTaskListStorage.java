@@ -0,0 +1,141 @@
+package tp.acecs2103.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tp.acecs2103.commons.core.LogsCenter;
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.commons.exceptions.IllegalValueException;
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.model.task.Task;
+
+/**
+ * Stores the task list in a compact binary file.
+ * The format is described in {@link TaskListBinaryCodec}. The file is backed up before it is replaced, and a file whose
+ * blocks fail their checksums can be restored from its newest readable backup, as done by {@link TaskListBackups}.
+ */
+public class BinaryTaskListStorage implements TaskSnapshotStorage, TaskListFileReader {
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskListStorage.class);
+
+    private Path filePath;
+    private final FileCompression compression;
+
+    public BinaryTaskListStorage(Path filePath) {
+        this(filePath, FileCompression.forFileName(filePath, FileCompression.NONE));
+    }
+
+    /**
+     * Creates a {@code BinaryTaskListStorage} which stores the task list at {@code filePath}.
+     *
+     * @param compression the compression of the file when it is written. Compressed files are always readable.
+     */
+    public BinaryTaskListStorage(Path filePath, FileCompression compression) {
+        this.filePath = filePath;
+        this.compression = compression;
+    }
+
+    /**
+     * Checks whether the file at {@code filePath} exists and is in the binary format, compressed or not.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        return FileCompression.startsWith(filePath, TaskListBinaryCodec.MAGIC);
+    }
+
+    public Path getTaskListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<TaskList> readTaskList() throws DataConversionException {
+        return readTaskList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskList()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<TaskList> readTaskList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+        return readTaskListFile(filePath);
+    }
+
+    /**
+     * Replaces the file, which is not in the correct format, with its newest readable backup and reads it, as done by
+     * {@link TaskListBackups#restoreBackup(Path, TaskListBackups.Reader)}.
+     */
+    @Override
+    public Optional<TaskList> recoverTaskList() throws DataConversionException, IOException {
+        if (!TaskListBackups.restoreBackup(filePath, BinaryTaskListStorage::readTaskListFile)) {
+            return Optional.empty();
+        }
+        return readTaskList();
+    }
+
+    @Override
+    public Optional<TaskList> readTaskListFile() throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        return readTaskListFile(filePath);
+    }
+
+    private static Optional<TaskList> readTaskListFile(Path filePath) throws DataConversionException {
+        try (InputStream in = FileCompression.newInputStream(filePath)) {
+            byte[] data = in.readAllBytes();
+            return Optional.of(JsonSerializableTaskList.toTaskList(TaskListBinaryCodec.decode(data)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.warning("Binary file " + filePath + " is not valid: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveTaskList(TaskList taskList) throws IOException {
+        saveTaskList(taskList, filePath);
+    }
+
+    @Override
+    public void saveTaskList(TaskList taskList, Path filePath) throws IOException {
+        requireNonNull(taskList);
+        requireNonNull(filePath);
+
+        FileCompression fileCompression = filePath.equals(this.filePath)
+                ? compression
+                : FileCompression.forFileName(filePath, compression);
+        TaskListBackups.rotate(filePath);
+        fileCompression.writeAtomically(filePath, out -> TaskListBinaryCodec.encode(taskList.getTaskList(), out));
+    }
+
+    @Override
+    public void saveTasks(List<JsonAdaptedTask> tasks) throws IOException {
+        requireNonNull(tasks);
+
+        List<Task> modelTasks;
+        try {
+            modelTasks = JsonSerializableTaskList.toModelTasks(tasks);
+        } catch (IllegalValueException ive) {
+            throw new IOException("Tasks cannot be converted: " + ive.getMessage(), ive);
+        }
+        TaskListBackups.rotate(filePath);
+        compression.writeAtomically(filePath, out -> TaskListBinaryCodec.encode(modelTasks, out));
+    }
+}
@@ -0,0 +1,156 @@
+package tp.acecs2103.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.commons.exceptions.IllegalValueException;
+import tp.acecs2103.model.task.Task;
+
+/**
+ * Reads tasks from a CSV file as described in RFC 4180, one row at a time.
+ * The first row must name the columns, which may come in any order; columns with other names are ignored, and
+ * the optional columns may be left out. Empty fields are missing values, and flags are true only if they are
+ * {@code true}, in any case.
+ */
+class CsvTaskRecordReader implements TaskRecordReader {
+    static final String[] COLUMNS = {"index", "week", "category", "description", "officialDeadline",
+        "customizedDeadline", "remark", "customized", "done"};
+    private static final int INDEX = 0;
+    private static final int WEEK = 1;
+    private static final int CATEGORY = 2;
+    private static final int DESCRIPTION = 3;
+    private static final int OFFICIAL_DEADLINE = 4;
+    private static final int CUSTOMIZED_DEADLINE = 5;
+    private static final int REMARK = 6;
+    private static final int CUSTOMIZED = 7;
+    private static final int DONE = 8;
+    private static final String MESSAGE_MISSING_HEADER = "the first row must name the columns, including "
+            + "index, week and description";
+
+    private final BufferedReader in;
+    private final Path filePath;
+    private final ArrayList<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    /** Position in a row of each of {@code COLUMNS}, or -1 if the file has no such column. */
+    private int[] columnPositions;
+    /** Line on which the last row read starts. */
+    private int lineNumber;
+    private int nextLineNumber = 1;
+
+    CsvTaskRecordReader(BufferedReader in, Path filePath) {
+        this.in = in;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Task read() throws DataConversionException, IOException {
+        if (columnPositions == null) {
+            if (!readRow()) {
+                return null;
+            }
+            readHeader();
+        }
+        do {
+            if (!readRow()) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+        // a task without a category is a plain task
+        String category = getField(CATEGORY) == null ? "" : getField(CATEGORY);
+        try {
+            return new JsonAdaptedTask(getField(INDEX), getField(WEEK), getField(DESCRIPTION),
+                    getField(OFFICIAL_DEADLINE), getField(CUSTOMIZED_DEADLINE), getField(REMARK), category,
+                    Boolean.parseBoolean(getField(CUSTOMIZED)), Boolean.parseBoolean(getField(DONE))).toModelType();
+        } catch (IllegalValueException e) {
+            throw invalidRow(e.getMessage(), e);
+        }
+    }
+
+    private void readHeader() throws DataConversionException {
+        columnPositions = new int[COLUMNS.length];
+        Arrays.fill(columnPositions, -1);
+        for (int position = fields.size() - 1; position >= 0; position--) {
+            String name = fields.get(position).trim();
+            for (int column = 0; column < COLUMNS.length; column++) {
+                if (COLUMNS[column].equalsIgnoreCase(name)) {
+                    columnPositions[column] = position;
+                }
+            }
+        }
+        if (columnPositions[INDEX] < 0 || columnPositions[WEEK] < 0 || columnPositions[DESCRIPTION] < 0) {
+            throw invalidRow(MESSAGE_MISSING_HEADER, null);
+        }
+    }
+
+    /**
+     * Gets the field of {@code column} in the last row read, or {@code null} if it is missing or empty.
+     */
+    private String getField(int column) {
+        int position = columnPositions[column];
+        if (position < 0 || position >= fields.size() || fields.get(position).isEmpty()) {
+            return null;
+        }
+        return fields.get(position);
+    }
+
+    /**
+     * Reads the fields of the next row into {@code fields}. A quoted field may hold commas, line breaks and
+     * quotes, which are doubled, and the line break ending a row may be either LF or CRLF.
+     *
+     * @return false if there are no more rows.
+     */
+    private boolean readRow() throws DataConversionException, IOException {
+        fields.clear();
+        field.setLength(0);
+        lineNumber = nextLineNumber;
+        int c = in.read();
+        if (c == -1) {
+            return false;
+        }
+
+        boolean isQuoted = false;
+        while (c != -1 && (isQuoted || c != '\n')) {
+            if (c == '"' && isQuoted) {
+                c = in.read();
+                if (c != '"') {
+                    // the closing quote, followed by c
+                    isQuoted = false;
+                    continue;
+                }
+                field.append('"');
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',' && !isQuoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c != '\r' || isQuoted) {
+                if (c == '\n') {
+                    nextLineNumber++;
+                }
+                field.append((char) c);
+            }
+            c = in.read();
+        }
+        if (isQuoted) {
+            throw invalidRow("a quoted field is not closed", null);
+        }
+        nextLineNumber++;
+        fields.add(field.toString());
+        return true;
+    }
+
+    private DataConversionException invalidRow(String message, Exception cause) {
+        return new DataConversionException(new IllegalValueException(String.format(
+                TaskRecordFormat.MESSAGE_INVALID_RECORD, lineNumber, filePath.getFileName(), message), cause));
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
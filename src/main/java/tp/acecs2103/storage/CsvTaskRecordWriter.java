@@ -0,0 +1,74 @@
+package tp.acecs2103.storage;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import tp.acecs2103.model.task.Task;
+import tp.acecs2103.model.task.TaskCategory;
+
+/**
+ * Writes tasks to a CSV file as described in RFC 4180, one row at a time after a header row naming the columns.
+ */
+class CsvTaskRecordWriter implements TaskRecordWriter {
+    private static final String LINE_BREAK = "\r\n";
+
+    private final Writer out;
+
+    /**
+     * Creates a {@code CsvTaskRecordWriter} writing to {@code out}, and writes the header row.
+     */
+    CsvTaskRecordWriter(Writer out) throws IOException {
+        this.out = out;
+        out.write(String.join(",", CsvTaskRecordReader.COLUMNS));
+        out.write(LINE_BREAK);
+    }
+
+    @Override
+    public boolean write(Task task) throws IOException {
+        writeField(task.getIndex().value);
+        out.write(',');
+        writeField(task.getWeekNumber().value);
+        out.write(',');
+        writeField(TaskCategory.categoryToString(task.getCategory()));
+        out.write(',');
+        writeField(task.getDescription().value);
+        out.write(',');
+        writeField(task.getOfficialDeadline() == null ? null : task.getOfficialDeadline().value);
+        out.write(',');
+        writeField(task.getCustomizedDeadline() == null ? null : task.getCustomizedDeadline().value);
+        out.write(',');
+        writeField(task.getRemark() == null ? null : task.getRemark().value);
+        out.write(',');
+        out.write(Boolean.toString(task.isCustomized()));
+        out.write(',');
+        out.write(Boolean.toString(task.isDone()));
+        out.write(LINE_BREAK);
+        return true;
+    }
+
+    /**
+     * Writes {@code value}, quoted if it holds a comma, a quote or a line break, or nothing if it is {@code null}.
+     */
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean isQuoted = false;
+        for (int i = 0; i < value.length() && !isQuoted; i++) {
+            char c = value.charAt(i);
+            isQuoted = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!isQuoted) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
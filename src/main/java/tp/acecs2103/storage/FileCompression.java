@@ -0,0 +1,143 @@
+package tp.acecs2103.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import tp.acecs2103.commons.util.FileUtil;
+
+/**
+ * Compression of data files, applied to the whole stream of the file.
+ * A file is written compressed if its name ends with the extension of a compression, and reading detects
+ * the compression from the first bytes of the file, so files can be read whatever they are called.
+ */
+public enum FileCompression {
+    NONE(""),
+    GZIP(".gz"),
+    /** The zlib format of {@link java.util.zip.Deflater}, which is a little smaller and faster than GZIP. */
+    DEFLATE(".deflate");
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+    private static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
+    private static final int ZLIB_DEFLATE_METHOD = 8;
+
+    public final String extension;
+
+    FileCompression(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Gets the compression given by the extension of {@code filePath}, or {@code defaultCompression} if the
+     * extension is not that of any compression.
+     */
+    public static FileCompression forFileName(Path filePath, FileCompression defaultCompression) {
+        String fileName = filePath.getFileName().toString();
+        for (FileCompression compression : values()) {
+            if (compression != NONE && fileName.endsWith(compression.extension)) {
+                return compression;
+            }
+        }
+        return defaultCompression;
+    }
+
+    /**
+     * Gets the name of {@code filePath} without the extension of its compression, if any.
+     */
+    public static String getUncompressedFileName(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        FileCompression compression = forFileName(filePath, NONE);
+        return fileName.substring(0, fileName.length() - compression.extension.length());
+    }
+
+    /**
+     * Wraps {@code out} in a buffered stream which compresses what is written to it.
+     * The returned stream must be closed to finish the compressed data.
+     */
+    public OutputStream compress(OutputStream out) throws IOException {
+        switch (this) {
+        case GZIP:
+            return new BufferedOutputStream(new GZIPOutputStream(out), BUFFER_SIZE);
+        case DEFLATE:
+            return new BufferedOutputStream(new DeflaterOutputStream(out), BUFFER_SIZE);
+        default:
+            return out;
+        }
+    }
+
+    /**
+     * Replaces the content of {@code filePath} atomically with what {@code contentWriter} writes,
+     * compressed with this compression.
+     */
+    public void writeAtomically(Path filePath, FileUtil.ContentWriter contentWriter) throws IOException {
+        FileUtil.writeAtomically(filePath, out -> {
+            OutputStream compressed = compress(out);
+            contentWriter.write(compressed);
+            // closing again is harmless if the writer closed the stream itself
+            compressed.close();
+        });
+    }
+
+    /**
+     * Opens the existing file at {@code filePath} for reading, decompressing it if it is compressed.
+     */
+    public static InputStream newInputStream(Path filePath) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE);
+        try {
+            switch (detect(in)) {
+            case GZIP:
+                return new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+            case DEFLATE:
+                return new BufferedInputStream(new InflaterInputStream(in), BUFFER_SIZE);
+            default:
+                return in;
+            }
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether {@code filePath} exists and its content, after decompression, starts with {@code prefix}.
+     */
+    public static boolean startsWith(Path filePath, byte[] prefix) {
+        if (!FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+        try (InputStream in = newInputStream(filePath)) {
+            return Arrays.equals(in.readNBytes(prefix.length), prefix);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Detects the compression of the stream from its first two bytes without consuming them.
+     */
+    private static FileCompression detect(BufferedInputStream in) throws IOException {
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        if (first == GZIP_MAGIC_FIRST_BYTE && second == GZIP_MAGIC_SECOND_BYTE) {
+            return GZIP;
+        }
+        // a zlib header names the deflate method in its low bits and is a multiple of 31
+        if (first >= 0 && second >= 0 && (first & 0x0f) == ZLIB_DEFLATE_METHOD
+                && ((first << 8) | second) % 31 == 0) {
+            return DEFLATE;
+        }
+        return NONE;
+    }
+}
@@ -0,0 +1,191 @@
+package tp.acecs2103.storage;
+
+import static tp.acecs2103.storage.ICalendarTaskRecordWriter.PROPERTY_PREFIX;
+import static tp.acecs2103.storage.ICalendarTaskRecordWriter.UID_SUFFIX;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.commons.exceptions.IllegalValueException;
+import tp.acecs2103.model.task.Task;
+
+/**
+ * Reads tasks from an iCalendar file as described in RFC 5545, one event at a time, such as a file written by
+ * {@link ICalendarTaskRecordWriter}. The index of a task is taken from the UID of its event, and its description
+ * from the summary. An event without the official and customized deadlines of its task is taken to be due on its
+ * start date. Components other than events, and components nested in events such as alarms, are skipped.
+ */
+class ICalendarTaskRecordReader implements TaskRecordReader {
+    private static final String MESSAGE_EVENT_NOT_ENDED = "the event is not ended";
+    private static final String MESSAGE_INVALID_START_DATE = "the start date of the event is not valid";
+
+    private final BufferedReader in;
+    private final Path filePath;
+    /** Values of the properties of the event being read, by their upper case names. */
+    private final HashMap<String, String> properties = new HashMap<>();
+    /** Line read after the last content line, which did not continue it, or null if there is none. */
+    private String pendingLine;
+    private int pendingLineNumber;
+    private int physicalLineNumber;
+    /** Line on which the last content line read starts. */
+    private int lineNumber;
+
+    ICalendarTaskRecordReader(BufferedReader in, Path filePath) {
+        this.in = in;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Task read() throws DataConversionException, IOException {
+        int eventLineNumber = -1;
+        int nestedDepth = 0;
+        String line;
+        while ((line = readContentLine()) != null) {
+            String upperCaseLine = line.toUpperCase(Locale.ROOT);
+            if (eventLineNumber < 0) {
+                if (upperCaseLine.equals("BEGIN:VEVENT")) {
+                    eventLineNumber = lineNumber;
+                    properties.clear();
+                }
+            } else if (upperCaseLine.startsWith("BEGIN:")) {
+                nestedDepth++;
+            } else if (upperCaseLine.startsWith("END:")) {
+                if (nestedDepth == 0) {
+                    return toTask(eventLineNumber);
+                }
+                nestedDepth--;
+            } else if (nestedDepth == 0) {
+                putProperty(line);
+            }
+        }
+        if (eventLineNumber >= 0) {
+            throw invalidEvent(eventLineNumber, MESSAGE_EVENT_NOT_ENDED, null);
+        }
+        return null;
+    }
+
+    private Task toTask(int eventLineNumber) throws DataConversionException {
+        String index = unescape(properties.get("UID"));
+        if (index != null && index.endsWith(UID_SUFFIX)) {
+            index = index.substring(0, index.length() - UID_SUFFIX.length());
+        }
+        // a task without a category is a plain task
+        String category = "";
+        if (properties.containsKey("CATEGORIES")) {
+            category = unescape(properties.get("CATEGORIES").split("(?<!\\\\),")[0]);
+        }
+        String officialDeadline = properties.get(PROPERTY_PREFIX + "OFFICIAL-DEADLINE");
+        String customizedDeadline = properties.get(PROPERTY_PREFIX + "CUSTOMIZED-DEADLINE");
+        String startDate = properties.get("DTSTART");
+        if (officialDeadline == null && customizedDeadline == null && startDate != null) {
+            try {
+                officialDeadline = LocalDate.parse(startDate.substring(0, Math.min(8, startDate.length())),
+                        ICalendarTaskRecordWriter.DATE_FORMAT).toString();
+            } catch (DateTimeParseException e) {
+                throw invalidEvent(eventLineNumber, MESSAGE_INVALID_START_DATE, e);
+            }
+        }
+
+        try {
+            return new JsonAdaptedTask(index, properties.get(PROPERTY_PREFIX + "WEEK"),
+                    unescape(properties.get("SUMMARY")), officialDeadline, customizedDeadline,
+                    unescape(properties.get("DESCRIPTION")), category,
+                    "TRUE".equalsIgnoreCase(properties.get(PROPERTY_PREFIX + "CUSTOMIZED")),
+                    "TRUE".equalsIgnoreCase(properties.get(PROPERTY_PREFIX + "DONE"))).toModelType();
+        } catch (IllegalValueException e) {
+            throw invalidEvent(eventLineNumber, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Keeps the value of the property on {@code line} by its name, ignoring its parameters. Only the first value
+     * of a property is kept, and lines which are not properties are ignored.
+     */
+    private void putProperty(String line) {
+        int nameEnd = -1;
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                // parameter values may be quoted to hold colons
+                isQuoted = !isQuoted;
+            } else if (c == ';' && !isQuoted && nameEnd < 0) {
+                nameEnd = i;
+            } else if (c == ':' && !isQuoted) {
+                String name = line.substring(0, nameEnd < 0 ? i : nameEnd).toUpperCase(Locale.ROOT);
+                properties.putIfAbsent(name, line.substring(i + 1));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reverses the escaping of a text value, or returns {@code null} if {@code text} is {@code null}.
+     */
+    private static String unescape(String text) {
+        if (text == null || text.indexOf('\\') < 0) {
+            return text;
+        }
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                c = text.charAt(++i);
+                builder.append(c == 'n' || c == 'N' ? '\n' : c);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Reads the next content line, joining the lines it is folded into.
+     *
+     * @return the content line, or {@code null} if there are no more lines.
+     */
+    private String readContentLine() throws IOException {
+        String line = pendingLine;
+        lineNumber = pendingLineNumber;
+        pendingLine = null;
+        if (line == null) {
+            line = in.readLine();
+            lineNumber = ++physicalLineNumber;
+            if (line == null) {
+                return null;
+            }
+        }
+
+        StringBuilder contentLine = null;
+        String next;
+        while ((next = in.readLine()) != null) {
+            physicalLineNumber++;
+            if (next.isEmpty() || (next.charAt(0) != ' ' && next.charAt(0) != '\t')) {
+                pendingLine = next;
+                pendingLineNumber = physicalLineNumber;
+                break;
+            }
+            if (contentLine == null) {
+                contentLine = new StringBuilder(line);
+            }
+            contentLine.append(next, 1, next.length());
+        }
+        return contentLine == null ? line : contentLine.toString();
+    }
+
+    private DataConversionException invalidEvent(int eventLineNumber, String message, Exception cause) {
+        return new DataConversionException(new IllegalValueException(String.format(
+                TaskRecordFormat.MESSAGE_INVALID_RECORD, eventLineNumber, filePath.getFileName(), message), cause));
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
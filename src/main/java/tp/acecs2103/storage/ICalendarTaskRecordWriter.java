@@ -0,0 +1,118 @@
+package tp.acecs2103.storage;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import tp.acecs2103.model.task.Deadline;
+import tp.acecs2103.model.task.Task;
+import tp.acecs2103.model.task.TaskCategory;
+
+/**
+ * Writes tasks to an iCalendar file as described in RFC 5545, one all-day event at a time on the deadline of each
+ * task, which is its customized deadline if it has one and its official deadline otherwise. Tasks without a
+ * deadline are skipped. The fields which iCalendar has no property for are kept in {@code X-ACECS2103-} properties,
+ * so that the file can be imported again.
+ */
+class ICalendarTaskRecordWriter implements TaskRecordWriter {
+    static final String UID_SUFFIX = "@acecs2103";
+    static final String PROPERTY_PREFIX = "X-ACECS2103-";
+    static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final String LINE_BREAK = "\r\n";
+    /** Lines longer than this many bytes are folded. */
+    private static final int MAX_LINE_LENGTH = 75;
+
+    private final Writer out;
+    private final String timestamp;
+
+    /**
+     * Creates a {@code ICalendarTaskRecordWriter} writing to {@code out}, and begins the calendar.
+     */
+    ICalendarTaskRecordWriter(Writer out) throws IOException {
+        this.out = out;
+        timestamp = TIMESTAMP_FORMAT.format(ZonedDateTime.now(ZoneOffset.UTC));
+        writeLine("BEGIN:VCALENDAR");
+        writeLine("VERSION:2.0");
+        writeLine("PRODID:-//acecs2103//Task List//EN");
+        writeLine("CALSCALE:GREGORIAN");
+    }
+
+    @Override
+    public boolean write(Task task) throws IOException {
+        Deadline deadline = task.getCustomizedDeadline() != null
+                ? task.getCustomizedDeadline()
+                : task.getOfficialDeadline();
+        if (deadline == null) {
+            return false;
+        }
+        LocalDate date = deadline.getTimeInfo();
+        writeLine("BEGIN:VEVENT");
+        writeLine("UID:" + escape(task.getIndex().value + UID_SUFFIX));
+        writeLine("DTSTAMP:" + timestamp);
+        writeLine("DTSTART;VALUE=DATE:" + DATE_FORMAT.format(date));
+        writeLine("DTEND;VALUE=DATE:" + DATE_FORMAT.format(date.plusDays(1)));
+        writeLine("SUMMARY:" + escape(task.getDescription().value));
+        if (task.getRemark() != null && task.getRemark().value != null) {
+            writeLine("DESCRIPTION:" + escape(task.getRemark().value));
+        }
+        String category = TaskCategory.categoryToString(task.getCategory());
+        if (!category.isEmpty()) {
+            writeLine("CATEGORIES:" + escape(category));
+        }
+        writeLine(PROPERTY_PREFIX + "WEEK:" + task.getWeekNumber().value);
+        if (task.getOfficialDeadline() != null) {
+            writeLine(PROPERTY_PREFIX + "OFFICIAL-DEADLINE:" + task.getOfficialDeadline().value);
+        }
+        if (task.getCustomizedDeadline() != null) {
+            writeLine(PROPERTY_PREFIX + "CUSTOMIZED-DEADLINE:" + task.getCustomizedDeadline().value);
+        }
+        writeLine(PROPERTY_PREFIX + "CUSTOMIZED:" + (task.isCustomized() ? "TRUE" : "FALSE"));
+        writeLine(PROPERTY_PREFIX + "DONE:" + (task.isDone() ? "TRUE" : "FALSE"));
+        writeLine("END:VEVENT");
+        return true;
+    }
+
+    /**
+     * Escapes the characters of {@code text} which have a meaning in a property value.
+     */
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,")
+                .replace("\r\n", "\\n").replace("\n", "\\n");
+    }
+
+    /**
+     * Writes {@code line}, folded into lines of at most {@code MAX_LINE_LENGTH} bytes, each continued line starting
+     * with a space. Lines are only folded between characters, never within the bytes of one character.
+     */
+    private void writeLine(String line) throws IOException {
+        int start = 0;
+        int length = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            // the UTF-8 length, where a surrogate pair counts all of its four bytes at its first half
+            int charLength = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isHighSurrogate(c) ? 4
+                    : Character.isLowSurrogate(c) ? 0 : 3;
+            if (length + charLength > MAX_LINE_LENGTH) {
+                out.write(line, start, i - start);
+                out.write(LINE_BREAK);
+                out.write(' ');
+                start = i;
+                // the space starting the continued line counts towards its length
+                length = 1;
+            }
+            length += charLength;
+        }
+        out.write(line, start, line.length() - start);
+        out.write(LINE_BREAK);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLine("END:VCALENDAR");
+        out.close();
+    }
+}
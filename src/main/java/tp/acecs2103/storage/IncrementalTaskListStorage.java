@@ -0,0 +1,40 @@
+package tp.acecs2103.storage;
+
+import java.io.IOException;
+
+import tp.acecs2103.model.TaskList;
+
+/**
+ * A {@code TaskListStorage} which saves a task list by writing only what has changed since it was last saved,
+ * and which can capture what needs to be written separately from writing it.
+ */
+public interface IncrementalTaskListStorage extends TaskListStorage {
+    /**
+     * Captures everything which needs to be written to save {@code taskList}, so that it can be written later
+     * by {@link #writeUpdate(Update)}, possibly on another thread.
+     * This must be called on the thread which changes {@code taskList}.
+     */
+    Update captureUpdate(TaskList taskList);
+
+    /**
+     * Writes an update captured by {@link #captureUpdate(TaskList)} of this storage.
+     */
+    void writeUpdate(Update update) throws IOException;
+
+    /**
+     * Releases the resources held by this storage, after the last update has been written.
+     */
+    default void close() throws IOException {
+    }
+
+    /**
+     * Everything to be written for one or more saves of a task list, captured so that it no longer depends on
+     * the task list.
+     */
+    interface Update {
+        /**
+         * Combines this update with an update captured after it by the same storage into a single update.
+         */
+        Update merge(Update later);
+    }
+}
@@ -0,0 +1,305 @@
+package tp.acecs2103.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tp.acecs2103.commons.core.LogsCenter;
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.commons.exceptions.IllegalValueException;
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.model.TaskListChange;
+import tp.acecs2103.model.TaskListChangeListener;
+import tp.acecs2103.model.task.Index;
+import tp.acecs2103.model.task.Task;
+
+/**
+ * Stores a task list as a snapshot kept by another {@code TaskListStorage} and a journal of the changes made since.
+ * Saving a task list which has been saved before only appends the tasks changed since the last save to the journal,
+ * so the cost of a save does not grow with the size of the task list. The snapshot is rewritten, and the journal
+ * emptied, when a different task list is saved, when all data of the task list is replaced, when the journal
+ * grows beyond {@code COMPACTION_THRESHOLD} records, and when the storage is closed.
+ * Until then, the snapshot alone is not the latest saved task list: that is the snapshot with its journal replayed on
+ * top of it, so programs reading or syncing the snapshot file only see the latest state after the storage is closed.
+ */
+public class JournaledTaskListStorage implements IncrementalTaskListStorage {
+    public static final int COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledTaskListStorage.class);
+
+    private final TaskListStorage snapshotStorage;
+    private final TaskListJournal journal;
+    private final TaskListChangeListener changeRecorder = this::recordChange;
+
+    /** The task list whose changes are being recorded, i.e. the task list last saved to the snapshot. */
+    private TaskList trackedTaskList;
+    /** Changes not saved yet, as a record of the latest state of every changed index. */
+    private final LinkedHashMap<Index, JsonAdaptedJournalRecord> pendingChanges = new LinkedHashMap<>();
+    /** Number of records captured for the journal since the last snapshot was captured. */
+    private int journaledRecordCount;
+    private boolean isSnapshotRequired;
+
+    /**
+     * Creates a {@code JournaledTaskListStorage} which keeps its snapshots in {@code snapshotStorage}
+     * and its journal next to the file of {@code snapshotStorage}.
+     */
+    public JournaledTaskListStorage(TaskListStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = new TaskListJournal(TaskListJournal.getJournalFilePath(snapshotStorage.getTaskListFilePath()));
+    }
+
+    @Override
+    public Path getTaskListFilePath() {
+        return snapshotStorage.getTaskListFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journal.getFilePath();
+    }
+
+    @Override
+    public Optional<TaskList> readTaskList() throws DataConversionException, IOException {
+        return readTaskList(getTaskListFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays the changes recorded in its journal on top of it.
+     */
+    @Override
+    public Optional<TaskList> readTaskList(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Optional<TaskList> snapshot = snapshotStorage.readTaskList(filePath);
+        List<JsonAdaptedJournalRecord> records = filePath.equals(getTaskListFilePath())
+                ? journal.read()
+                : new TaskListJournal(TaskListJournal.getJournalFilePath(filePath)).read();
+        if (records.isEmpty()) {
+            return snapshot;
+        }
+
+        logger.info("Replaying " + records.size() + " journal records on " + filePath);
+        LinkedHashMap<Index, Task> tasks = new LinkedHashMap<>();
+        snapshot.ifPresent(taskList -> taskList.getTaskList().forEach(task -> tasks.put(task.getIndex(), task)));
+        try {
+            for (JsonAdaptedJournalRecord record : records) {
+                record.applyTo(tasks);
+            }
+            return Optional.of(JsonSerializableTaskList.toTaskList(new ArrayList<>(tasks.values())));
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the snapshot without replaying the journal, after {@link #readTaskList()} found either of them not in the
+     * expected format. A snapshot which cannot be read is recovered as done by the snapshot storage. The journal is
+     * kept aside as {@code <journal>.corrupt} in either case, as its records were appended to a newer snapshot than
+     * the one recovered, or cannot be read themselves.
+     */
+    @Override
+    public Optional<TaskList> recoverTaskList() throws DataConversionException, IOException {
+        Optional<TaskList> snapshot;
+        try {
+            snapshot = snapshotStorage.readTaskList();
+        } catch (DataConversionException e) {
+            snapshot = snapshotStorage.recoverTaskList();
+        }
+        Path journalCopyPath = TaskListBackups.getCorruptFilePath(getJournalFilePath());
+        logger.warning("Keeping journal " + getJournalFilePath() + " aside as " + journalCopyPath);
+        journal.moveTo(journalCopyPath);
+        return snapshot;
+    }
+
+    @Override
+    public void saveTaskList(TaskList taskList) throws IOException {
+        saveTaskList(taskList, getTaskListFilePath());
+    }
+
+    @Override
+    public void saveTaskList(TaskList taskList, Path filePath) throws IOException {
+        requireNonNull(taskList);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getTaskListFilePath())) {
+            snapshotStorage.saveTaskList(taskList, filePath);
+            return;
+        }
+        writeUpdate(captureUpdate(taskList));
+    }
+
+    @Override
+    public synchronized TaskListUpdate captureUpdate(TaskList taskList) {
+        requireNonNull(taskList);
+        if (taskList != trackedTaskList || isSnapshotRequired) {
+            if (taskList != trackedTaskList) {
+                if (trackedTaskList != null) {
+                    trackedTaskList.removeListener(changeRecorder);
+                }
+                taskList.addListener(changeRecorder);
+                trackedTaskList = taskList;
+            }
+            pendingChanges.clear();
+            isSnapshotRequired = false;
+            journaledRecordCount = 0;
+            return new TaskListUpdate(new ArrayList<>(), getSnapshot(taskList));
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>(pendingChanges.values());
+        pendingChanges.clear();
+        journaledRecordCount += records.size();
+        if (journaledRecordCount <= COMPACTION_THRESHOLD) {
+            return new TaskListUpdate(records, null);
+        }
+        journaledRecordCount = 0;
+        return new TaskListUpdate(records, getSnapshot(taskList));
+    }
+
+    /**
+     * Writes an update captured by {@link #captureUpdate(TaskList)}.
+     * The journal records are appended before the snapshot is written, so a journal left behind by a crash
+     * before it is emptied only repeats what is already in the snapshot.
+     * If the update cannot be written, the next update captured writes a full snapshot instead.
+     */
+    @Override
+    public void writeUpdate(Update captured) throws IOException {
+        TaskListUpdate update = (TaskListUpdate) captured;
+        synchronized (journal) {
+            try {
+                journal.append(update.records);
+                if (update.snapshot != null) {
+                    logger.fine("Compacting journal " + journal.getFilePath() + " into a snapshot");
+                    writeSnapshot(update.snapshot);
+                    journal.clear();
+                    journal.append(update.recordsAfterSnapshot);
+                }
+            } catch (IOException e) {
+                synchronized (this) {
+                    isSnapshotRequired = true;
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Compacts the journal into the snapshot, so that the snapshot alone holds the task list last saved.
+     * This must be called on the thread which changes the task list, after the last update has been written.
+     */
+    @Override
+    public void close() throws IOException {
+        TaskListUpdate update;
+        synchronized (this) {
+            if (trackedTaskList == null || journaledRecordCount == 0 && !isSnapshotRequired) {
+                return;
+            }
+            isSnapshotRequired = true;
+            update = captureUpdate(trackedTaskList);
+        }
+        writeUpdate(update);
+    }
+
+    private static List<JsonAdaptedTask> getSnapshot(TaskList taskList) {
+        List<JsonAdaptedTask> snapshot = new ArrayList<>(taskList.size());
+        for (Task task : taskList.getTaskList()) {
+            snapshot.add(new JsonAdaptedTask(task));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Replaces the snapshot with the captured {@code snapshot}, which is written as it is where the snapshot storage
+     * allows it, rather than converted back into a {@code TaskList} first.
+     */
+    private void writeSnapshot(List<JsonAdaptedTask> snapshot) throws IOException {
+        if (snapshotStorage instanceof TaskSnapshotStorage) {
+            TaskSnapshotStorage taskSnapshotStorage = (TaskSnapshotStorage) snapshotStorage;
+            taskSnapshotStorage.saveTasks(snapshot);
+            return;
+        }
+        try {
+            TaskList taskList = JsonSerializableTaskList.toTaskList(JsonSerializableTaskList.toModelTasks(snapshot));
+            snapshotStorage.saveTaskList(taskList, getTaskListFilePath());
+        } catch (IllegalValueException ive) {
+            throw new IOException("Captured tasks cannot be converted back: " + ive.getMessage(), ive);
+        }
+    }
+
+    private synchronized void recordChange(TaskListChange change) {
+        switch (change.getType()) {
+        case ADDED:
+            putChange(change.getNewTask());
+            break;
+        case REMOVED:
+            deleteChange(change.getOldTask().getIndex());
+            break;
+        case UPDATED:
+            if (!change.getOldTask().getIndex().equals(change.getNewTask().getIndex())) {
+                deleteChange(change.getOldTask().getIndex());
+            }
+            putChange(change.getNewTask());
+            break;
+        case RESET:
+            isSnapshotRequired = true;
+            break;
+        default:
+            // only the view is changed, which is not stored
+        }
+    }
+
+    private void putChange(Task task) {
+        pendingChanges.put(task.getIndex(), JsonAdaptedJournalRecord.put(task));
+    }
+
+    private void deleteChange(Index index) {
+        pendingChanges.put(index, JsonAdaptedJournalRecord.delete(index));
+    }
+
+    /**
+     * Journal records and snapshots to be written for one or more saves of a task list.
+     */
+    static class TaskListUpdate implements Update {
+        private final List<JsonAdaptedJournalRecord> records;
+        private final List<JsonAdaptedTask> snapshot;
+        private final List<JsonAdaptedJournalRecord> recordsAfterSnapshot;
+
+        /**
+         * Creates an update which appends {@code records} to the journal and then, unless {@code snapshot} is null,
+         * replaces the snapshot with {@code snapshot}.
+         */
+        TaskListUpdate(List<JsonAdaptedJournalRecord> records, List<JsonAdaptedTask> snapshot) {
+            this(records, snapshot, new ArrayList<>());
+        }
+
+        private TaskListUpdate(List<JsonAdaptedJournalRecord> records, List<JsonAdaptedTask> snapshot,
+                               List<JsonAdaptedJournalRecord> recordsAfterSnapshot) {
+            this.records = records;
+            this.snapshot = snapshot;
+            this.recordsAfterSnapshot = recordsAfterSnapshot;
+        }
+
+        @Override
+        public TaskListUpdate merge(Update captured) {
+            TaskListUpdate later = (TaskListUpdate) captured;
+            if (later.snapshot == null && snapshot != null) {
+                return new TaskListUpdate(records, snapshot, concat(recordsAfterSnapshot, later.records));
+            }
+            // the records of both updates, in order, lead from the last snapshot written to the later snapshot
+            return new TaskListUpdate(concat(concat(records, recordsAfterSnapshot), later.records),
+                    later.snapshot, later.recordsAfterSnapshot);
+        }
+
+        private static List<JsonAdaptedJournalRecord> concat(List<JsonAdaptedJournalRecord> first,
+                                                             List<JsonAdaptedJournalRecord> second) {
+            List<JsonAdaptedJournalRecord> result = new ArrayList<>(first.size() + second.size());
+            result.addAll(first);
+            result.addAll(second);
+            return result;
+        }
+    }
+}
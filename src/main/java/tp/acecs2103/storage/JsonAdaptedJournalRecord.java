@@ -0,0 +1,81 @@
+package tp.acecs2103.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tp.acecs2103.commons.exceptions.IllegalValueException;
+import tp.acecs2103.model.task.Index;
+import tp.acecs2103.model.task.Task;
+
+/**
+ * Jackson-friendly version of a single change recorded in a {@link TaskListJournal}.
+ * A record either puts a task, replacing any task with the same index, or deletes the task with an index,
+ * so applying the same record twice gives the same result as applying it once.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String PUT = "put";
+    public static final String DELETE = "delete";
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid!";
+
+    private final String op;
+    private final String index;
+    private final JsonAdaptedTask task;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op,
+                                    @JsonProperty("index") String index,
+                                    @JsonProperty("task") JsonAdaptedTask task) {
+        this.op = op;
+        this.index = index;
+        this.task = task;
+    }
+
+    /**
+     * Creates a record which puts {@code task} into the task list.
+     */
+    public static JsonAdaptedJournalRecord put(Task task) {
+        return new JsonAdaptedJournalRecord(PUT, null, new JsonAdaptedTask(task));
+    }
+
+    /**
+     * Creates a record which deletes the task with {@code index} from the task list.
+     */
+    public static JsonAdaptedJournalRecord delete(Index index) {
+        return new JsonAdaptedJournalRecord(DELETE, index.value, null);
+    }
+
+    public JsonAdaptedTask getTask() {
+        return task;
+    }
+
+    /**
+     * Checks whether the task put by this record, if any, matches its checksum.
+     */
+    public boolean hasValidChecksum() {
+        return task == null || task.hasValidChecksum();
+    }
+
+    /**
+     * Applies this record to {@code tasks}, which maps the index of every task to the task.
+     *
+     * @throws IllegalValueException if the record or the task in it is invalid.
+     */
+    public void applyTo(Map<Index, Task> tasks) throws IllegalValueException {
+        if (PUT.equals(op) && task != null) {
+            Task modelTask = task.toModelType();
+            tasks.put(modelTask.getIndex(), modelTask);
+        } else if (DELETE.equals(op) && index != null && Index.isValidIndex(index)) {
+            tasks.remove(Index.of(index));
+        } else {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+    }
+}
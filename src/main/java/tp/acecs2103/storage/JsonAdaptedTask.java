@@ -1,7 +1,9 @@
 package tp.acecs2103.storage;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.logging.Logger;
+import java.util.zip.CRC32C;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -13,11 +15,15 @@ import tp.acecs2103.model.task.*;
 
 /**
  * Jackson-friendly version of {@link Task}.
+ * Tasks written by this version carry a CRC32C checksum of their fields, so that a task changed by corruption of the
+ * file can be told apart from the others; tasks written without a checksum are accepted as they are.
  */
 class JsonAdaptedTask {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Task's %s field is missing!";
     private static final Logger logger = LogsCenter.getLogger(JsonAdaptedTask.class);
+    private static final int FIELD_SEPARATOR = 0;
+    private static final int MISSING_FIELD = 1;
 
     private String index;
     private String weekNumber;
@@ -28,9 +34,20 @@ class JsonAdaptedTask {
     private String category;
     private boolean isCustomized;
     private boolean isDone;
+    private Integer checksum;
 
     /**
-     * Constructs a {@code JsonAdaptedTask} with the given person details.
+     * Constructs a {@code JsonAdaptedTask} with the given person details and no checksum.
+     */
+    public JsonAdaptedTask(String index, String weekNumber, String description, String officialDeadline,
+                           String customizedDeadline, String remark, String category, boolean isCustomized,
+                           boolean isDone) {
+        this(index, weekNumber, description, officialDeadline, customizedDeadline, remark, category, isCustomized,
+                isDone, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedTask} with the given person details and checksum.
      */
     @JsonCreator
     public JsonAdaptedTask(@JsonProperty("index") String index,
@@ -41,7 +58,8 @@ class JsonAdaptedTask {
                            @JsonProperty("remark") String remark,
                            @JsonProperty("category") String category,
                            @JsonProperty("customized") boolean isCustomized,
-                           @JsonProperty("doneStatus") boolean isDone) {
+                           @JsonProperty("doneStatus") boolean isDone,
+                           @JsonProperty("checksum") Integer checksum) {
         this.index = index;
         this.weekNumber = weekNumber;
         this.description = description;
@@ -51,6 +69,7 @@ class JsonAdaptedTask {
         this.category = category;
         this.isCustomized = isCustomized;
         this.isDone = isDone;
+        this.checksum = checksum;
     }
 
     /**
@@ -81,6 +100,33 @@ class JsonAdaptedTask {
         isCustomized = task.isCustomized();
 
         isDone = task.isDone();
+
+        checksum = computeChecksum();
+    }
+
+    /**
+     * Computes the checksum of all fields of this task.
+     */
+    private int computeChecksum() {
+        CRC32C crc = new CRC32C();
+        for (String field : new String[] {index, weekNumber, description, officialDeadline, customizedDeadline,
+            remark, category}) {
+            if (field == null) {
+                crc.update(MISSING_FIELD);
+            } else {
+                crc.update(field.getBytes(StandardCharsets.UTF_8));
+                crc.update(FIELD_SEPARATOR);
+            }
+        }
+        crc.update((isCustomized ? 2 : 0) | (isDone ? 1 : 0));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Checks whether the fields of this task match its checksum, or whether it has no checksum.
+     */
+    public boolean hasValidChecksum() {
+        return checksum == null || checksum == computeChecksum();
     }
 
     /**
@@ -96,7 +142,7 @@ class JsonAdaptedTask {
         if (!Index.isValidIndex(index)) {
             throw new IllegalValueException(Index.MESSAGE_CONSTRAINTS);
         }
-        Index modelIndex = new Index(index);
+        Index modelIndex = Index.of(index);
 
         if (weekNumber == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "weekNumber"));
@@ -104,7 +150,7 @@ class JsonAdaptedTask {
         if (!WeekNumber.isValidWeekNumber(weekNumber)) {
             throw new IllegalValueException(WeekNumber.MESSAGE_CONSTRAINTS);
         }
-        WeekNumber modelWeekNumber = new WeekNumber(weekNumber);
+        WeekNumber modelWeekNumber = WeekNumber.of(weekNumber);
 
         if (description == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "description"));
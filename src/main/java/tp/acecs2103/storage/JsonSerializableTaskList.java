@@ -1,9 +1,11 @@
 package tp.acecs2103.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -11,7 +13,9 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import tp.acecs2103.commons.core.LogsCenter;
 import tp.acecs2103.commons.exceptions.IllegalValueException;
+import tp.acecs2103.commons.util.AppUtil;
 import tp.acecs2103.model.TaskList;
+import tp.acecs2103.model.exceptions.InvalidTaskListOperationException;
 import tp.acecs2103.model.task.Task;
 
 /**
@@ -22,6 +26,9 @@ class JsonSerializableTaskList {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Tasks list contains duplicate task(s).";
 
+    /** Task lists smaller than this are converted on the calling thread, as splitting them is not worth it. */
+    private static final int PARALLEL_THRESHOLD = 2048;
+
     private static final Logger logger = LogsCenter.getLogger(JsonSerializableTaskList.class);
 
     private final List<JsonAdaptedTask> tasks = new ArrayList<>();
@@ -49,16 +56,65 @@ class JsonSerializableTaskList {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public TaskList toModelType() throws IllegalValueException {
-        TaskList taskList = new TaskList();
+        return toTaskList(toModelTasks(tasks));
+    }
+
+    /**
+     * Converts {@code tasks} into the model's {@code Task} objects in the same order.
+     * Large lists are converted in parallel, but the error reported is always the one of the first invalid task.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static List<Task> toModelTasks(List<JsonAdaptedTask> tasks) throws IllegalValueException {
+        return tasks.size() < PARALLEL_THRESHOLD ? convertSequentially(tasks) : convertInParallel(tasks);
+    }
+
+    /**
+     * Creates the model's {@code TaskList} holding {@code tasks}.
+     *
+     * @throws IllegalValueException if more than one task has the same index.
+     */
+    static TaskList toTaskList(List<Task> tasks) throws IllegalValueException {
+        try {
+            return TaskList.fromTasks(tasks, AppUtil.getCurrentWeekNumber());
+        } catch (InvalidTaskListOperationException e) {
+            logger.info(e.getMessage());
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+
+    private static List<Task> convertSequentially(List<JsonAdaptedTask> tasks) throws IllegalValueException {
+        ArrayList<Task> modelTasks = new ArrayList<>(tasks.size());
         for (JsonAdaptedTask jsonAdaptedTask : tasks) {
-            Task task = jsonAdaptedTask.toModelType();
-            if (taskList.hasTask(task)) {
-                logger.info("The index of duplicate task is: " + task.getIndex().toString());
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            modelTasks.add(jsonAdaptedTask.toModelType());
+        }
+        return modelTasks;
+    }
+
+    /**
+     * Converts all tasks on the common fork/join pool.
+     * Every task is converted into its own slot, and failures are only reported after all tasks are done,
+     * so that the result does not depend on the order in which the tasks are converted.
+     */
+    private static List<Task> convertInParallel(List<JsonAdaptedTask> tasks) throws IllegalValueException {
+        Task[] modelTasks = new Task[tasks.size()];
+        Exception[] errors = new Exception[tasks.size()];
+        IntStream.range(0, tasks.size()).parallel().forEach(i -> {
+            try {
+                modelTasks[i] = tasks.get(i).toModelType();
+            } catch (IllegalValueException | RuntimeException e) {
+                errors[i] = e;
+            }
+        });
+
+        for (Exception error : errors) {
+            if (error instanceof IllegalValueException) {
+                throw (IllegalValueException) error;
+            } else if (error != null) {
+                throw (RuntimeException) error;
             }
-            taskList.initialize(task);
         }
-        return taskList;
+        return Arrays.asList(modelTasks);
     }
 
 }
@@ -3,24 +3,67 @@ package tp.acecs2103.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import tp.acecs2103.commons.core.LogsCenter;
 import tp.acecs2103.commons.exceptions.DataConversionException;
 import tp.acecs2103.commons.exceptions.IllegalValueException;
-import tp.acecs2103.commons.util.FileUtil;
 import tp.acecs2103.commons.util.JsonUtil;
 import tp.acecs2103.model.TaskList;
-
-
-
-public class JsonTaskListStorage implements TaskListStorage {
-
+import tp.acecs2103.model.task.Task;
+
+/**
+ * Stores the task list in a JSON file, which may be compressed.
+ * The file is written and read one task at a time, so the whole document is never held in memory as text.
+ * The checksum of every task is verified as it is read, and corrupt tasks are quarantined instead of failing the whole
+ * file. The file is backed up before it is replaced, and a file which cannot be read at all can be restored from its
+ * newest readable backup, as done by {@link TaskListBackups}.
+ */
+public class JsonTaskListStorage implements TaskSnapshotStorage, TaskListFileReader {
+    private static final Logger logger = LogsCenter.getLogger(JsonTaskListStorage.class);
+
+    private static final String TASKS_FIELD = "tasks";
+    /** Number of tasks read before they are converted together into the model's tasks. */
+    private static final int READ_BATCH_SIZE = 8192;
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final FileCompression compression;
 
     public JsonTaskListStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonTaskListStorage} which stores the task list at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether the file is indented for reading by humans, which makes it larger.
+     */
+    public JsonTaskListStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, FileCompression.forFileName(filePath, FileCompression.NONE));
+    }
+
+    /**
+     * Creates a {@code JsonTaskListStorage} which stores the task list at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether the file is indented for reading by humans, which makes it larger.
+     * @param compression the compression of the file when it is written. Compressed files are always readable.
+     */
+    public JsonTaskListStorage(Path filePath, boolean isPrettyPrinted, FileCompression compression) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.compression = compression;
     }
 
     public Path getTaskListFilePath() {
@@ -41,19 +84,100 @@ public class JsonTaskListStorage implements TaskListStorage {
     public Optional<TaskList> readTaskList(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTaskList> jsonTaskList = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTaskList.class);
-        if (!jsonTaskList.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+        try {
+            return readAndQuarantine(filePath);
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Replaces the file, which is not in the correct format, with its newest readable backup and reads it, as done by
+     * {@link TaskListBackups#restoreBackup(Path, TaskListBackups.Reader)}.
+     */
+    @Override
+    public Optional<TaskList> recoverTaskList() throws DataConversionException, IOException {
+        if (!TaskListBackups.restoreBackup(filePath, path -> Optional.of(readTaskListFile(path, new ArrayList<>())))) {
+            return Optional.empty();
+        }
+        return readTaskList();
+    }
+
+    @Override
+    public Optional<TaskList> readTaskListFile() throws DataConversionException {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        return Optional.of(readTaskListFile(filePath, new ArrayList<>()));
+    }
 
+    /**
+     * Reads the task list in the existing JSON file at {@code filePath}, adding the tasks whose checksum does not
+     * match to {@code corruptTasks}.
+     */
+    private static TaskList readTaskListFile(Path filePath, List<JsonAdaptedTask> corruptTasks)
+            throws DataConversionException {
         try {
-            return Optional.of(jsonTaskList.get().toModelType());
+            return JsonSerializableTaskList.toTaskList(readTasks(filePath, corruptTasks));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             throw new DataConversionException(ive);
         }
     }
 
+    private static Optional<TaskList> readAndQuarantine(Path filePath) throws DataConversionException, IOException {
+        List<JsonAdaptedTask> corruptTasks = new ArrayList<>();
+        TaskList taskList = readTaskListFile(filePath, corruptTasks);
+        TaskListBackups.quarantine(filePath, corruptTasks);
+        return Optional.of(taskList);
+    }
+
+    /**
+     * Reads the tasks in the existing JSON file at {@code filePath}, converting them in batches as they are read.
+     * The file is decompressed if it is compressed. Tasks whose checksum does not match are not converted but added
+     * to {@code corruptTasks}.
+     */
+    static List<Task> readTasks(Path filePath, List<JsonAdaptedTask> corruptTasks)
+            throws IOException, IllegalValueException {
+        try (InputStream in = FileCompression.newInputStream(filePath);
+             JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "A task list file should contain a JSON object.");
+            }
+
+            List<Task> tasks = new ArrayList<>();
+            List<JsonAdaptedTask> batch = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!fieldName.equals(TASKS_FIELD) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedTask task = JsonUtil.readValue(parser, JsonAdaptedTask.class);
+                    if (!task.hasValidChecksum()) {
+                        corruptTasks.add(task);
+                        continue;
+                    }
+                    batch.add(task);
+                    if (batch.size() == READ_BATCH_SIZE) {
+                        tasks.addAll(JsonSerializableTaskList.toModelTasks(batch));
+                        batch.clear();
+                    }
+                }
+            }
+            tasks.addAll(JsonSerializableTaskList.toModelTasks(batch));
+            return tasks;
+        }
+    }
+
     @Override
     public void saveTaskList(TaskList taskList) throws IOException {
         saveTaskList(taskList, filePath);
@@ -64,8 +188,36 @@ public class JsonTaskListStorage implements TaskListStorage {
         requireNonNull(taskList);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTaskList(taskList), filePath);
+        TaskListBackups.rotate(filePath);
+        writeTasks(filePath, () -> taskList.getTaskList().stream().map(JsonAdaptedTask::new).iterator(),
+                isPrettyPrinted, filePath.equals(this.filePath)
+                        ? compression
+                        : FileCompression.forFileName(filePath, compression));
     }
-}
 
+    @Override
+    public void saveTasks(List<JsonAdaptedTask> tasks) throws IOException {
+        requireNonNull(tasks);
+
+        TaskListBackups.rotate(filePath);
+        writeTasks(filePath, tasks, isPrettyPrinted, compression);
+    }
+
+    /**
+     * Replaces the JSON file at {@code filePath} with a file holding {@code tasks}.
+     */
+    static void writeTasks(Path filePath, Iterable<JsonAdaptedTask> tasks, boolean isPrettyPrinted,
+                           FileCompression compression) throws IOException {
+        compression.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(TASKS_FIELD);
+                for (JsonAdaptedTask task : tasks) {
+                    JsonUtil.writeValue(generator, task);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+}
@@ -0,0 +1,373 @@
+package tp.acecs2103.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import tp.acecs2103.commons.core.LogsCenter;
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.commons.exceptions.IllegalValueException;
+import tp.acecs2103.commons.util.FileUtil;
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.model.TaskListChange;
+import tp.acecs2103.model.TaskListChangeListener;
+import tp.acecs2103.model.task.Task;
+
+/**
+ * Stores the task list as a directory of JSON files called shards: {@code week-01.json} to {@code week-13.json}
+ * hold the default tasks of each week, and {@code customized.json} holds all customized tasks.
+ * Saving a task list which has been saved before only rewrites the shards whose tasks changed, and the shards are
+ * read in parallel. When the directory has no shards yet, a task list file in the single-file layout called
+ * {@value LEGACY_FILE_NAME} next to the directory is migrated into shards the first time the task list is read.
+ */
+public class ShardedTaskListStorage implements IncrementalTaskListStorage, TaskListFileReader {
+    public static final String LEGACY_FILE_NAME = "tasklist.json";
+    public static final String MIGRATED_FILE_SUFFIX = ".migrated";
+    public static final String MESSAGE_TASK_IN_WRONG_SHARD = "Task %s does not belong in shard %s.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedTaskListStorage.class);
+
+    private static final String WEEK_SHARD_FILE_NAME = "week-%02d.json";
+    private static final String CUSTOMIZED_SHARD_FILE_NAME = "customized.json";
+    private static final int WEEK_COUNT = 13;
+    /** Shards 0 to {@code WEEK_COUNT - 1} hold the default tasks of weeks 1 to {@code WEEK_COUNT}. */
+    private static final int CUSTOMIZED_SHARD = WEEK_COUNT;
+    private static final int SHARD_COUNT = WEEK_COUNT + 1;
+
+    private final Path directory;
+    private final Path legacyFilePath;
+    private final boolean isPrettyPrinted;
+    private final FileCompression compression;
+    private final TaskListChangeListener changeRecorder = this::recordChange;
+    private final Object writeLock = new Object();
+
+    /** The task list whose changes are being recorded, i.e. the task list last saved. */
+    private TaskList trackedTaskList;
+    /** Shards changed since the last update was captured. */
+    private final BitSet dirtyShards = new BitSet(SHARD_COUNT);
+
+    public ShardedTaskListStorage(Path directory, boolean isPrettyPrinted) {
+        this(directory, isPrettyPrinted, FileCompression.NONE);
+    }
+
+    /**
+     * Creates a {@code ShardedTaskListStorage} which keeps its shards in {@code directory}.
+     *
+     * @param isPrettyPrinted whether the shards are indented for reading by humans, which makes them larger.
+     * @param compression the compression of the shards when they are written, which does not change their names.
+     */
+    public ShardedTaskListStorage(Path directory, boolean isPrettyPrinted, FileCompression compression) {
+        requireNonNull(directory);
+        requireNonNull(compression);
+        this.directory = directory;
+        this.legacyFilePath = directory.resolveSibling(LEGACY_FILE_NAME);
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.compression = compression;
+    }
+
+    /**
+     * Returns the directory holding the shards.
+     */
+    @Override
+    public Path getTaskListFilePath() {
+        return directory;
+    }
+
+    /**
+     * Gets the file of shard {@code shard} in {@code directory}.
+     */
+    static Path getShardFilePath(Path directory, int shard) {
+        return directory.resolve(getShardFileName(shard));
+    }
+
+    private static String getShardFileName(int shard) {
+        return shard == CUSTOMIZED_SHARD ? CUSTOMIZED_SHARD_FILE_NAME : String.format(WEEK_SHARD_FILE_NAME, shard + 1);
+    }
+
+    /**
+     * Checks whether {@code fileName} is the name of a shard.
+     */
+    static boolean isShardFileName(String fileName) {
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            if (getShardFileName(shard).equals(fileName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int getShard(Task task) {
+        return task.isCustomized() ? CUSTOMIZED_SHARD : task.getWeekNumber().getWeekValueInt() - 1;
+    }
+
+    private static boolean hasShards(Path directory) {
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            if (FileUtil.isFileExists(getShardFilePath(directory, shard))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<TaskList> readTaskList() throws DataConversionException, IOException {
+        return readTaskList(directory);
+    }
+
+    /**
+     * Reads all shards in {@code directory} in parallel, migrating the task list file in the single-file layout first
+     * if there are none.
+     */
+    @Override
+    public Optional<TaskList> readTaskList(Path directory) throws DataConversionException, IOException {
+        requireNonNull(directory);
+
+        if (!hasShards(directory)) {
+            if (directory.equals(this.directory) && FileUtil.isFileExists(legacyFilePath)) {
+                return migrateLegacyFile();
+            }
+            logger.info("No task list shards found in " + directory);
+            return Optional.empty();
+        }
+
+        return Optional.of(readShards(directory, true));
+    }
+
+    @Override
+    public Optional<TaskList> readTaskListFile() throws DataConversionException, IOException {
+        if (!hasShards(directory)) {
+            return Optional.empty();
+        }
+        return Optional.of(readShards(directory, false));
+    }
+
+    /**
+     * Reads all shards in {@code directory} in parallel.
+     *
+     * @param isQuarantined whether corrupt tasks are quarantined next to their shard, rather than only skipped.
+     */
+    private static TaskList readShards(Path directory, boolean isQuarantined)
+            throws DataConversionException, IOException {
+        List<Callable<List<Task>>> shardReads = new ArrayList<>();
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            Path shardFilePath = getShardFilePath(directory, shard);
+            if (FileUtil.isFileExists(shardFilePath)) {
+                int shardNumber = shard;
+                shardReads.add(() -> readShard(shardFilePath, shardNumber, isQuarantined));
+            }
+        }
+        try {
+            List<Task> tasks = new ArrayList<>();
+            for (Future<List<Task>> shardRead : ForkJoinPool.commonPool().invokeAll(shardReads)) {
+                tasks.addAll(shardRead.get());
+            }
+            return JsonSerializableTaskList.toTaskList(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading task list shards in " + directory, e);
+        } catch (ExecutionException e) {
+            logger.warning("Error reading task list shards in " + directory + ": " + e.getCause());
+            if (e.getCause() instanceof Exception) {
+                throw new DataConversionException((Exception) e.getCause());
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static List<Task> readShard(Path shardFilePath, int shard, boolean isQuarantined)
+            throws IOException, IllegalValueException {
+        List<JsonAdaptedTask> corruptTasks = new ArrayList<>();
+        List<Task> tasks = JsonTaskListStorage.readTasks(shardFilePath, corruptTasks);
+        if (isQuarantined) {
+            TaskListBackups.quarantine(shardFilePath, corruptTasks);
+        }
+        for (Task task : tasks) {
+            if (getShard(task) != shard) {
+                throw new IllegalValueException(String.format(MESSAGE_TASK_IN_WRONG_SHARD, task.getIndex(),
+                        shardFilePath.getFileName()));
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Reads the task list in the single-file layout, including its journal, writes it into shards, and then
+     * renames the file and its journal so that they are kept as a backup but not migrated again.
+     */
+    private Optional<TaskList> migrateLegacyFile() throws DataConversionException, IOException {
+        logger.info("Migrating task list " + legacyFilePath + " into shards in " + directory);
+        Optional<TaskList> taskList =
+                StorageManager.createIncrementalTaskListStorage(legacyFilePath, isPrettyPrinted, compression)
+                        .readTaskList();
+        if (taskList.isEmpty()) {
+            return taskList;
+        }
+        writeShards(directory, getShards(taskList.get(), allShards()));
+
+        Path migratedFilePath = legacyFilePath.resolveSibling(legacyFilePath.getFileName() + MIGRATED_FILE_SUFFIX);
+        Path legacyJournalFilePath = TaskListJournal.getJournalFilePath(legacyFilePath);
+        if (Files.exists(legacyJournalFilePath)) {
+            Files.move(legacyJournalFilePath, TaskListJournal.getJournalFilePath(migratedFilePath),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.move(legacyFilePath, migratedFilePath, StandardCopyOption.REPLACE_EXISTING);
+        return taskList;
+    }
+
+    @Override
+    public void saveTaskList(TaskList taskList) throws IOException {
+        saveTaskList(taskList, directory);
+    }
+
+    /**
+     * Saves {@code taskList} into the shards in {@code directory}, rewriting only the changed shards if
+     * {@code directory} is the directory of this storage, and all shards otherwise.
+     */
+    @Override
+    public void saveTaskList(TaskList taskList, Path directory) throws IOException {
+        requireNonNull(taskList);
+        requireNonNull(directory);
+
+        if (!directory.equals(this.directory)) {
+            writeShards(directory, getShards(taskList, allShards()));
+            return;
+        }
+        writeUpdate(captureUpdate(taskList));
+    }
+
+    @Override
+    public synchronized ShardUpdate captureUpdate(TaskList taskList) {
+        requireNonNull(taskList);
+        if (taskList != trackedTaskList) {
+            if (trackedTaskList != null) {
+                trackedTaskList.removeListener(changeRecorder);
+            }
+            taskList.addListener(changeRecorder);
+            trackedTaskList = taskList;
+            dirtyShards.set(0, SHARD_COUNT);
+        }
+        ShardUpdate update = new ShardUpdate(getShards(taskList, dirtyShards));
+        dirtyShards.clear();
+        return update;
+    }
+
+    /**
+     * Writes the shards captured by {@link #captureUpdate(TaskList)}.
+     * If the update cannot be written, its shards are written again by the next update captured.
+     */
+    @Override
+    public void writeUpdate(Update captured) throws IOException {
+        ShardUpdate update = (ShardUpdate) captured;
+        synchronized (writeLock) {
+            try {
+                writeShards(directory, update.shards);
+            } catch (IOException e) {
+                synchronized (this) {
+                    update.shards.keySet().forEach(dirtyShards::set);
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static BitSet allShards() {
+        BitSet shards = new BitSet(SHARD_COUNT);
+        shards.set(0, SHARD_COUNT);
+        return shards;
+    }
+
+    /**
+     * Captures the tasks of each of {@code shards} in {@code taskList}, in the order of the task list.
+     */
+    private static TreeMap<Integer, List<JsonAdaptedTask>> getShards(TaskList taskList, BitSet shards) {
+        TreeMap<Integer, List<JsonAdaptedTask>> shardTasks = new TreeMap<>();
+        if (shards.isEmpty()) {
+            return shardTasks;
+        }
+        shards.stream().forEach(shard -> shardTasks.put(shard, new ArrayList<>()));
+        for (Task task : taskList.getTaskList()) {
+            List<JsonAdaptedTask> tasks = shardTasks.get(getShard(task));
+            if (tasks != null) {
+                tasks.add(new JsonAdaptedTask(task));
+            }
+        }
+        return shardTasks;
+    }
+
+    /**
+     * Replaces each of {@code shards} in {@code directory}; shards without tasks are deleted.
+     */
+    private void writeShards(Path directory, Map<Integer, List<JsonAdaptedTask>> shards) throws IOException {
+        for (Map.Entry<Integer, List<JsonAdaptedTask>> shard : shards.entrySet()) {
+            Path shardFilePath = getShardFilePath(directory, shard.getKey());
+            if (shard.getValue().isEmpty()) {
+                Files.deleteIfExists(shardFilePath);
+            } else {
+                JsonTaskListStorage.writeTasks(shardFilePath, shard.getValue(), isPrettyPrinted, compression);
+            }
+        }
+    }
+
+    private synchronized void recordChange(TaskListChange change) {
+        switch (change.getType()) {
+        case ADDED:
+            dirtyShards.set(getShard(change.getNewTask()));
+            break;
+        case REMOVED:
+            dirtyShards.set(getShard(change.getOldTask()));
+            break;
+        case UPDATED:
+            dirtyShards.set(getShard(change.getOldTask()));
+            dirtyShards.set(getShard(change.getNewTask()));
+            break;
+        case RESET:
+            dirtyShards.set(0, SHARD_COUNT);
+            break;
+        default:
+            // only the view is changed, which is not stored
+        }
+    }
+
+    /**
+     * The tasks of the shards to be rewritten for one or more saves of a task list.
+     */
+    static class ShardUpdate implements Update {
+        private final TreeMap<Integer, List<JsonAdaptedTask>> shards;
+
+        private ShardUpdate(TreeMap<Integer, List<JsonAdaptedTask>> shards) {
+            this.shards = shards;
+        }
+
+        /**
+         * Gets the shards rewritten by this update.
+         */
+        Set<Integer> getShardNumbers() {
+            return shards.keySet();
+        }
+
+        @Override
+        public ShardUpdate merge(Update captured) {
+            ShardUpdate later = (ShardUpdate) captured;
+            TreeMap<Integer, List<JsonAdaptedTask>> merged = new TreeMap<>(shards);
+            merged.putAll(later.shards);
+            return new ShardUpdate(merged);
+        }
+    }
+}
@@ -0,0 +1,455 @@
+package tp.acecs2103.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tp.acecs2103.commons.core.LogsCenter;
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.commons.exceptions.IllegalValueException;
+import tp.acecs2103.commons.util.FileUtil;
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.model.TaskListChange;
+import tp.acecs2103.model.TaskListChangeListener;
+import tp.acecs2103.model.task.CustomizedDeadline;
+import tp.acecs2103.model.task.Deadline;
+import tp.acecs2103.model.task.Description;
+import tp.acecs2103.model.task.Index;
+import tp.acecs2103.model.task.OfficialDeadline;
+import tp.acecs2103.model.task.Remark;
+import tp.acecs2103.model.task.Task;
+import tp.acecs2103.model.task.TaskCategory;
+import tp.acecs2103.model.task.WeekNumber;
+
+/**
+ * Stores the task list in an embedded H2 database file, with one row per task in a table indexed on the task index,
+ * week, category, done status and deadlines.
+ * Saving a task list which has been saved before only inserts, updates or deletes the rows of the tasks changed
+ * since the last save, in a single transaction. The whole table is rewritten when a different task list is saved
+ * and when all data of the task list is replaced.
+ */
+public class SqlTaskListStorage implements IncrementalTaskListStorage {
+    public static final String FILE_EXTENSION = ".db";
+    public static final String MESSAGE_DATABASE_ERROR = "Task list database error: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlTaskListStorage.class);
+
+    private static final String JDBC_URL_PREFIX = "jdbc:h2:file:";
+    private static final String[] CREATE_SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS tasks ("
+                + "task_index INT PRIMARY KEY, "
+                + "list_position BIGINT NOT NULL, "
+                + "week INT NOT NULL, "
+                + "category VARCHAR(16) NOT NULL, "
+                + "description VARCHAR NOT NULL, "
+                + "official_deadline DATE, "
+                + "customized_deadline DATE, "
+                + "remark VARCHAR, "
+                + "customized BOOLEAN NOT NULL, "
+                + "done BOOLEAN NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS tasks_list_position ON tasks (list_position)",
+        "CREATE INDEX IF NOT EXISTS tasks_week ON tasks (week)",
+        "CREATE INDEX IF NOT EXISTS tasks_category ON tasks (category)",
+        "CREATE INDEX IF NOT EXISTS tasks_done ON tasks (done)",
+        "CREATE INDEX IF NOT EXISTS tasks_official_deadline ON tasks (official_deadline)",
+        "CREATE INDEX IF NOT EXISTS tasks_customized_deadline ON tasks (customized_deadline)"
+    };
+    private static final String SELECT_TASKS = "SELECT task_index, week, category, description, official_deadline, "
+            + "customized_deadline, remark, customized, done FROM tasks ORDER BY list_position";
+    private static final String SELECT_LAST_POSITION = "SELECT COALESCE(MAX(list_position), 0) FROM tasks";
+    private static final String INSERT_TASK = "INSERT INTO tasks (week, category, description, official_deadline, "
+            + "customized_deadline, remark, customized, done, task_index, list_position) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_TASK = "UPDATE tasks SET week = ?, category = ?, description = ?, "
+            + "official_deadline = ?, customized_deadline = ?, remark = ?, customized = ?, done = ? "
+            + "WHERE task_index = ?";
+    private static final String DELETE_TASK = "DELETE FROM tasks WHERE task_index = ?";
+    private static final String DELETE_ALL_TASKS = "DELETE FROM tasks";
+
+    private final Path filePath;
+    private final TaskListChangeListener changeRecorder = this::recordChange;
+
+    /** The connection to the database of this storage, opened when it is first needed. */
+    private Connection connection;
+    /** The task list whose changes are being recorded, i.e. the task list last saved. */
+    private TaskList trackedTaskList;
+    /** Changes not saved yet, as the latest state of every changed index, where null means deleted. */
+    private final LinkedHashMap<Index, Task> pendingChanges = new LinkedHashMap<>();
+    private boolean isRewriteRequired;
+
+    /**
+     * Creates a {@code SqlTaskListStorage} which stores the task list in the database at {@code filePath}.
+     * The database engine adds its own extension to the name of the file it creates.
+     */
+    public SqlTaskListStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getTaskListFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Checks whether there is a database at {@code filePath}.
+     */
+    public static boolean isDatabase(Path filePath) {
+        return FileUtil.isFileExists(getDatabaseFilePath(filePath));
+    }
+
+    private static Path getDatabaseFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".mv.db");
+    }
+
+    private static Connection openConnection(Path filePath) throws SQLException {
+        Connection connection = DriverManager.getConnection(JDBC_URL_PREFIX + filePath.toAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : CREATE_SCHEMA) {
+                statement.execute(sql);
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    private Connection getConnection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            connection = openConnection(filePath);
+        }
+        return connection;
+    }
+
+    @Override
+    public Optional<TaskList> readTaskList() throws DataConversionException, IOException {
+        return readTaskList(filePath);
+    }
+
+    @Override
+    public Optional<TaskList> readTaskList(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!isDatabase(filePath)) {
+            logger.info("Database " + filePath + " not found");
+            return Optional.empty();
+        }
+        try {
+            if (filePath.equals(this.filePath)) {
+                synchronized (this) {
+                    return Optional.of(readTaskList(getConnection()));
+                }
+            }
+            try (Connection otherConnection = openConnection(filePath)) {
+                return Optional.of(readTaskList(otherConnection));
+            }
+        } catch (SQLException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static TaskList readTaskList(Connection connection) throws SQLException, IllegalValueException {
+        List<Task> tasks = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(SELECT_TASKS)) {
+            while (rows.next()) {
+                tasks.add(toTask(rows));
+            }
+        } finally {
+            connection.rollback();
+        }
+        return JsonSerializableTaskList.toTaskList(tasks);
+    }
+
+    private static Task toTask(ResultSet row) throws SQLException, IllegalValueException {
+        String index = "0" + row.getInt("task_index");
+        String week = Integer.toString(row.getInt("week"));
+        if (!Index.isValidIndex(index)) {
+            throw new IllegalValueException(Index.MESSAGE_CONSTRAINTS);
+        }
+        if (!WeekNumber.isValidWeekNumber(week)) {
+            throw new IllegalValueException(WeekNumber.MESSAGE_CONSTRAINTS);
+        }
+        TaskCategory category;
+        try {
+            category = TaskCategory.valueOf(row.getString("category"));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_DATABASE_ERROR,
+                    "unknown category " + row.getString("category")));
+        }
+        LocalDate officialDeadline = row.getObject("official_deadline", LocalDate.class);
+        LocalDate customizedDeadline = row.getObject("customized_deadline", LocalDate.class);
+        return TaskListBinaryCodec.createTask(category, Index.of(index), WeekNumber.of(week),
+                new Description(row.getString("description")),
+                officialDeadline == null ? null : new OfficialDeadline(officialDeadline.toString(), officialDeadline),
+                customizedDeadline == null
+                        ? null
+                        : new CustomizedDeadline(customizedDeadline.toString(), customizedDeadline),
+                new Remark(row.getString("remark")), row.getBoolean("customized"), row.getBoolean("done"));
+    }
+
+    @Override
+    public void saveTaskList(TaskList taskList) throws IOException {
+        saveTaskList(taskList, filePath);
+    }
+
+    /**
+     * Saves {@code taskList} into the database at {@code filePath}, writing only the changed rows if
+     * {@code filePath} is the database of this storage, and all rows otherwise.
+     */
+    @Override
+    public void saveTaskList(TaskList taskList, Path filePath) throws IOException {
+        requireNonNull(taskList);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            writeUpdate(captureUpdate(taskList));
+            return;
+        }
+        try (Connection otherConnection = openConnection(filePath)) {
+            writeRows(otherConnection, new RowUpdate(new ArrayList<>(taskList.getTaskList())));
+        } catch (SQLException e) {
+            throw new IOException(String.format(MESSAGE_DATABASE_ERROR, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public synchronized RowUpdate captureUpdate(TaskList taskList) {
+        requireNonNull(taskList);
+        if (taskList != trackedTaskList || isRewriteRequired) {
+            if (taskList != trackedTaskList) {
+                if (trackedTaskList != null) {
+                    trackedTaskList.removeListener(changeRecorder);
+                }
+                taskList.addListener(changeRecorder);
+                trackedTaskList = taskList;
+            }
+            pendingChanges.clear();
+            isRewriteRequired = false;
+            return new RowUpdate(copyTasks(taskList.getTaskList()));
+        }
+        RowUpdate update = new RowUpdate(new LinkedHashMap<>());
+        pendingChanges.forEach((index, task) -> update.changes.put(index, task == null ? null : copyTask(task)));
+        pendingChanges.clear();
+        return update;
+    }
+
+    /**
+     * Writes the rows captured by {@link #captureUpdate(TaskList)} in a single transaction.
+     * If the update cannot be written, the next update captured rewrites the whole table.
+     */
+    @Override
+    public synchronized void writeUpdate(Update captured) throws IOException {
+        try {
+            writeRows(getConnection(), (RowUpdate) captured);
+        } catch (SQLException e) {
+            isRewriteRequired = true;
+            throw new IOException(String.format(MESSAGE_DATABASE_ERROR, e.getMessage()), e);
+        }
+    }
+
+    private static void writeRows(Connection connection, RowUpdate update) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             PreparedStatement insert = connection.prepareStatement(INSERT_TASK);
+             PreparedStatement updateRow = connection.prepareStatement(UPDATE_TASK);
+             PreparedStatement delete = connection.prepareStatement(DELETE_TASK)) {
+            if (update.allTasks != null) {
+                statement.executeUpdate(DELETE_ALL_TASKS);
+            }
+            long lastPosition;
+            try (ResultSet result = statement.executeQuery(SELECT_LAST_POSITION)) {
+                result.next();
+                lastPosition = result.getLong(1);
+            }
+
+            if (update.allTasks != null) {
+                for (Task task : update.allTasks) {
+                    setTaskParameters(insert, task);
+                    insert.setLong(10, ++lastPosition);
+                    insert.addBatch();
+                }
+                // the rows must exist before the changes made after them are applied
+                insert.executeBatch();
+            }
+            for (Task task : update.changes.values()) {
+                if (task == null) {
+                    continue;
+                }
+                setTaskParameters(updateRow, task);
+                if (updateRow.executeUpdate() == 0) {
+                    setTaskParameters(insert, task);
+                    insert.setLong(10, ++lastPosition);
+                    insert.addBatch();
+                }
+            }
+            for (Index index : update.changes.keySet()) {
+                if (update.changes.get(index) == null) {
+                    delete.setInt(1, index.getIndexValue());
+                    delete.addBatch();
+                }
+            }
+            delete.executeBatch();
+            insert.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        }
+    }
+
+    /**
+     * Sets the first nine parameters of {@code statement} to the columns of {@code task},
+     * in the order of {@code UPDATE_TASK}.
+     */
+    private static void setTaskParameters(PreparedStatement statement, Task task) throws SQLException {
+        statement.setInt(1, task.getWeekNumber().getWeekValueInt());
+        statement.setString(2, task.getCategory().name());
+        statement.setString(3, task.getDescription().value);
+        setDate(statement, 4, task.getOfficialDeadline());
+        setDate(statement, 5, task.getCustomizedDeadline());
+        if (task.getRemark() == null || task.getRemark().value == null) {
+            statement.setNull(6, Types.VARCHAR);
+        } else {
+            statement.setString(6, task.getRemark().value);
+        }
+        statement.setBoolean(7, task.isCustomized());
+        statement.setBoolean(8, task.isDone());
+        statement.setInt(9, task.getIndex().getIndexValue());
+    }
+
+    private static void setDate(PreparedStatement statement, int parameter, Deadline deadline) throws SQLException {
+        if (deadline == null || deadline.getTimeInfo() == null) {
+            statement.setNull(parameter, Types.DATE);
+        } else {
+            statement.setObject(parameter, deadline.getTimeInfo());
+        }
+    }
+
+    /**
+     * Copies {@code task}, as tasks are changed in place and the copy may be written on another thread.
+     */
+    private static Task copyTask(Task task) {
+        return TaskListBinaryCodec.createTask(task.getCategory(), task.getIndex(), task.getWeekNumber(),
+                task.getDescription(), task.getOfficialDeadline(), task.getCustomizedDeadline(), task.getRemark(),
+                task.isCustomized(), task.isDone());
+    }
+
+    private static List<Task> copyTasks(List<Task> tasks) {
+        List<Task> copies = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            copies.add(copyTask(task));
+        }
+        return copies;
+    }
+
+    /**
+     * Closes the connection to the database, if it is open.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException(String.format(MESSAGE_DATABASE_ERROR, e.getMessage()), e);
+        } finally {
+            connection = null;
+        }
+    }
+
+    private synchronized void recordChange(TaskListChange change) {
+        switch (change.getType()) {
+        case ADDED:
+            pendingChanges.put(change.getNewTask().getIndex(), change.getNewTask());
+            break;
+        case REMOVED:
+            pendingChanges.put(change.getOldTask().getIndex(), null);
+            break;
+        case UPDATED:
+            if (!change.getOldTask().getIndex().equals(change.getNewTask().getIndex())) {
+                pendingChanges.put(change.getOldTask().getIndex(), null);
+            }
+            pendingChanges.put(change.getNewTask().getIndex(), change.getNewTask());
+            break;
+        case RESET:
+            isRewriteRequired = true;
+            break;
+        default:
+            // only the view is changed, which is not stored
+        }
+    }
+
+    /**
+     * The rows to be written for one or more saves of a task list.
+     */
+    static class RowUpdate implements Update {
+        /** All tasks, which replace every row, or null if only {@code changes} are written. */
+        private final List<Task> allTasks;
+        /** The latest state of every changed index after {@code allTasks}, where null means deleted. */
+        private final LinkedHashMap<Index, Task> changes;
+
+        private RowUpdate(List<Task> allTasks) {
+            this(allTasks, new LinkedHashMap<>());
+        }
+
+        private RowUpdate(LinkedHashMap<Index, Task> changes) {
+            this(null, changes);
+        }
+
+        private RowUpdate(List<Task> allTasks, LinkedHashMap<Index, Task> changes) {
+            this.allTasks = allTasks;
+            this.changes = changes;
+        }
+
+        /**
+         * Merges {@code captured}, which was captured after this update, into an update with the same result.
+         * Changes made after all tasks were captured are folded into them, so that a full rewrite never carries
+         * changes to rows which are only inserted with it.
+         */
+        @Override
+        public RowUpdate merge(Update captured) {
+            RowUpdate later = (RowUpdate) captured;
+            if (later.allTasks != null) {
+                return later;
+            }
+            if (allTasks == null) {
+                LinkedHashMap<Index, Task> mergedChanges = new LinkedHashMap<>(changes);
+                mergedChanges.putAll(later.changes);
+                return new RowUpdate(mergedChanges);
+            }
+            LinkedHashMap<Index, Task> mergedTasks = new LinkedHashMap<>();
+            for (Task task : allTasks) {
+                mergedTasks.put(task.getIndex(), task);
+            }
+            later.changes.forEach((index, task) -> {
+                if (task == null) {
+                    mergedTasks.remove(index);
+                } else {
+                    mergedTasks.put(index, task);
+                }
+            });
+            return new RowUpdate(new ArrayList<>(mergedTasks.values()));
+        }
+    }
+}
@@ -2,12 +2,14 @@ package tp.acecs2103.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import tp.acecs2103.commons.exceptions.DataConversionException;
 import tp.acecs2103.model.ReadOnlyUserPrefs;
 import tp.acecs2103.model.TaskList;
 import tp.acecs2103.model.UserPrefs;
+import tp.acecs2103.model.task.Task;
 
 /**
  * API of the Storage component
@@ -26,7 +28,25 @@ public interface Storage extends TaskListStorage, UserPrefsStorage {
     @Override
     Optional<TaskList> readTaskList() throws DataConversionException, IOException;
 
+    @Override
+    Optional<TaskList> recoverTaskList() throws DataConversionException, IOException;
+
     @Override
     void saveTaskList(TaskList taskList) throws IOException;
 
+    /**
+     * Reads all tasks in the CSV or iCalendar file at {@code filePath}, whose format is given by its extension.
+     * @throws DataConversionException if any task in the file is not valid.
+     * @throws IOException if the file is not in a supported format, or there was any problem reading from it.
+     */
+    List<Task> readTaskRecords(Path filePath) throws DataConversionException, IOException;
+
+    /**
+     * Replaces the content of the CSV or iCalendar file at {@code filePath}, whose format is given by its extension,
+     * with the tasks of {@code taskList}.
+     * @return the number of tasks written, which leaves out the tasks the format cannot hold.
+     * @throws IOException if the file is not in a supported format, or there was any problem writing to it.
+     */
+    int writeTaskRecords(TaskList taskList, Path filePath) throws IOException;
+
 }
@@ -1,15 +1,19 @@
 package tp.acecs2103.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import tp.acecs2103.commons.core.LogsCenter;
 import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.commons.util.FileUtil;
 import tp.acecs2103.model.ReadOnlyUserPrefs;
 import tp.acecs2103.model.TaskList;
 import tp.acecs2103.model.UserPrefs;
+import tp.acecs2103.model.task.Task;
 
 /**
  * Manages storage of TaskList data in local storage.
@@ -29,6 +33,78 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Creates the {@code TaskListStorage} for the task list at {@code filePath}, which is not compressed unless
+     * its name ends with the extension of a compression.
+     *
+     * @see #createTaskListStorage(Path, boolean, FileCompression)
+     */
+    public static TaskListStorage createTaskListStorage(Path filePath, boolean isPrettyPrinted) {
+        return createTaskListStorage(filePath, isPrettyPrinted, FileCompression.NONE);
+    }
+
+    /**
+     * Creates the {@code TaskListStorage} for the task list at {@code filePath}.
+     * An existing directory is read as shards; an existing file is kept in the format it is in; the format of a new
+     * file is given by its name, as in {@link #createTaskListStorageForName(Path, boolean, FileCompression)}.
+     *
+     * @param defaultCompression the compression used when the name of the file does not give one.
+     */
+    public static TaskListStorage createTaskListStorage(Path filePath, boolean isPrettyPrinted,
+                                                        FileCompression defaultCompression) {
+        FileCompression compression = FileCompression.forFileName(filePath, defaultCompression);
+        if (Files.isDirectory(filePath)) {
+            return new ShardedTaskListStorage(filePath, isPrettyPrinted, compression);
+        }
+        if (!FileUtil.isFileExists(filePath)) {
+            return createTaskListStorageForName(filePath, isPrettyPrinted, defaultCompression);
+        }
+        if (BinaryTaskListStorage.isBinaryFile(filePath)) {
+            return new BinaryTaskListStorage(filePath, compression);
+        }
+        return new JsonTaskListStorage(filePath, isPrettyPrinted, compression);
+    }
+
+    /**
+     * Creates the {@code TaskListStorage} for the format given by the name of {@code filePath}, ignoring the
+     * extension of its compression: binary if it ends with {@value BinaryTaskListStorage#FILE_EXTENSION},
+     * a database if it ends with {@value SqlTaskListStorage#FILE_EXTENSION}, shards in a directory if it has
+     * no extension, and JSON otherwise. Databases are never compressed.
+     *
+     * @param defaultCompression the compression used when the name of the file does not give one.
+     */
+    static TaskListStorage createTaskListStorageForName(Path filePath, boolean isPrettyPrinted,
+                                                        FileCompression defaultCompression) {
+        FileCompression compression = FileCompression.forFileName(filePath, defaultCompression);
+        String fileName = FileCompression.getUncompressedFileName(filePath);
+        if (fileName.endsWith(BinaryTaskListStorage.FILE_EXTENSION)) {
+            return new BinaryTaskListStorage(filePath, compression);
+        }
+        if (fileName.endsWith(SqlTaskListStorage.FILE_EXTENSION)) {
+            return new SqlTaskListStorage(filePath);
+        }
+        if (!fileName.contains(".")) {
+            return new ShardedTaskListStorage(filePath, isPrettyPrinted, compression);
+        }
+        return new JsonTaskListStorage(filePath, isPrettyPrinted, compression);
+    }
+
+    /**
+     * Creates a storage for the task list at {@code filePath} which saves only what has changed:
+     * the sharded storage saves only the changed shards and the database only the changed rows by themselves,
+     * and the other storages are journaled.
+     *
+     * @param defaultCompression the compression used when the name of the file does not give one.
+     */
+    public static IncrementalTaskListStorage createIncrementalTaskListStorage(Path filePath,
+            boolean isPrettyPrinted, FileCompression defaultCompression) {
+        TaskListStorage storage = createTaskListStorage(filePath, isPrettyPrinted, defaultCompression);
+        if (storage instanceof IncrementalTaskListStorage) {
+            return (IncrementalTaskListStorage) storage;
+        }
+        return new JournaledTaskListStorage(storage);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -65,6 +141,12 @@ public class StorageManager implements Storage {
         return taskListStorage.readTaskList(filePath);
     }
 
+    @Override
+    public Optional<TaskList> recoverTaskList() throws DataConversionException, IOException {
+        logger.fine("Attempting to recover data from the backups of file: " + getTaskListFilePath());
+        return taskListStorage.recoverTaskList();
+    }
+
     @Override
     public void saveTaskList(TaskList taskList) throws IOException {
         saveTaskList(taskList, taskListStorage.getTaskListFilePath());
@@ -76,4 +158,23 @@ public class StorageManager implements Storage {
         taskListStorage.saveTaskList(taskList, filePath);
     }
 
+    // ================ Task record methods ==============================
+
+    @Override
+    public List<Task> readTaskRecords(Path filePath) throws DataConversionException, IOException {
+        logger.fine("Attempting to read tasks from file: " + filePath);
+        return getTaskRecordFormat(filePath).read(filePath);
+    }
+
+    @Override
+    public int writeTaskRecords(TaskList taskList, Path filePath) throws IOException {
+        logger.fine("Attempting to write tasks to file: " + filePath);
+        return getTaskRecordFormat(filePath).write(filePath, taskList);
+    }
+
+    private static TaskRecordFormat getTaskRecordFormat(Path filePath) throws IOException {
+        return TaskRecordFormat.forFileName(filePath)
+                .orElseThrow(() -> new IOException(TaskRecordFormat.MESSAGE_UNSUPPORTED_FORMAT));
+    }
+
 }
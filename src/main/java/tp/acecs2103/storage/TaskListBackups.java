@@ -0,0 +1,137 @@
+package tp.acecs2103.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import tp.acecs2103.commons.core.LogsCenter;
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.commons.util.JsonUtil;
+import tp.acecs2103.model.TaskList;
+
+/**
+ * Keeps the last versions of a task list file as rotating backups, and restores the file from them when it cannot be
+ * read.
+ * Backups are kept next to the file as {@code <file>.bak.1}, the newest, to {@code <file>.bak.3}, the oldest.
+ * A file replaced by its backup is kept as {@code <file>.corrupt}, and corrupt tasks skipped while reading a file are
+ * kept in {@code <file>.quarantine}, so that nothing is lost when the file is written again.
+ */
+final class TaskListBackups {
+    static final int BACKUP_COUNT = 3;
+    static final String BACKUP_EXTENSION = ".bak.";
+    static final String CORRUPT_EXTENSION = ".corrupt";
+    static final String QUARANTINE_EXTENSION = ".quarantine";
+
+    private static final Logger logger = LogsCenter.getLogger(TaskListBackups.class);
+
+    /**
+     * Reads a task list from a file in one format.
+     */
+    @FunctionalInterface
+    interface Reader {
+        Optional<TaskList> read(Path filePath) throws DataConversionException, IOException;
+    }
+
+    private TaskListBackups() {
+    }
+
+    static Path getBackupFilePath(Path filePath, int generation) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_EXTENSION + generation);
+    }
+
+    static Path getCorruptFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CORRUPT_EXTENSION);
+    }
+
+    static Path getQuarantineFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + QUARANTINE_EXTENSION);
+    }
+
+    /**
+     * Keeps the current content of {@code filePath} as its newest backup, shifting the older backups back and
+     * dropping the oldest. This must be called right before {@code filePath} is replaced.
+     * The backup is a hard link to the current file where the file system supports them, so that it costs no copy.
+     */
+    static void rotate(Path filePath) throws IOException {
+        if (!Files.isRegularFile(filePath)) {
+            return;
+        }
+        Files.deleteIfExists(getBackupFilePath(filePath, BACKUP_COUNT));
+        for (int generation = BACKUP_COUNT - 1; generation >= 1; generation--) {
+            Path backup = getBackupFilePath(filePath, generation);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupFilePath(filePath, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Path newestBackup = getBackupFilePath(filePath, 1);
+        try {
+            Files.createLink(newestBackup, filePath);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(filePath, newestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Replaces the task list file at {@code filePath}, which cannot be read, with its newest backup which
+     * {@code reader} can read. The unreadable file is kept as {@code <file>.corrupt}.
+     *
+     * @return whether a readable backup was found. If not, the file is left as it is.
+     */
+    static boolean restoreBackup(Path filePath, Reader reader) throws IOException {
+        for (int generation = 1; generation <= BACKUP_COUNT; generation++) {
+            Path backup = getBackupFilePath(filePath, generation);
+            if (!Files.exists(backup)) {
+                break;
+            }
+            try {
+                reader.read(backup);
+            } catch (DataConversionException e) {
+                logger.warning("Backup " + backup + " cannot be read either: " + e);
+                continue;
+            }
+            Path corruptFilePath = getCorruptFilePath(filePath);
+            logger.warning("Restoring task list file " + filePath + " from backup " + backup
+                    + ", keeping the unreadable file as " + corruptFilePath);
+            if (Files.exists(filePath)) {
+                Files.move(filePath, corruptFilePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.copy(backup, filePath);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Appends {@code tasks}, skipped while reading {@code filePath} as they are corrupt, to the quarantine file of
+     * {@code filePath}, one JSON object per line. Tasks already in the quarantine file are not appended again, so
+     * reading the same file repeatedly quarantines each task once.
+     */
+    static void quarantine(Path filePath, Collection<JsonAdaptedTask> tasks) throws IOException {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        Path quarantineFilePath = getQuarantineFilePath(filePath);
+        Set<String> lines = new LinkedHashSet<>();
+        for (JsonAdaptedTask task : tasks) {
+            lines.add(JsonUtil.toJsonString(task).replace('\n', ' '));
+        }
+        if (Files.exists(quarantineFilePath)) {
+            lines.removeAll(Files.readAllLines(quarantineFilePath, StandardCharsets.UTF_8));
+        }
+        if (lines.isEmpty()) {
+            return;
+        }
+        logger.warning("Skipped " + tasks.size() + " corrupt tasks in " + filePath + ", keeping them in "
+                + quarantineFilePath);
+        Files.write(quarantineFilePath, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,397 @@
+package tp.acecs2103.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import tp.acecs2103.commons.exceptions.IllegalValueException;
+import tp.acecs2103.model.task.Admin;
+import tp.acecs2103.model.task.CustomizedDeadline;
+import tp.acecs2103.model.task.Description;
+import tp.acecs2103.model.task.IP;
+import tp.acecs2103.model.task.Index;
+import tp.acecs2103.model.task.OfficialDeadline;
+import tp.acecs2103.model.task.Remark;
+import tp.acecs2103.model.task.TP;
+import tp.acecs2103.model.task.Task;
+import tp.acecs2103.model.task.TaskCategory;
+import tp.acecs2103.model.task.Topic;
+import tp.acecs2103.model.task.WeekNumber;
+
+/**
+ * Encodes tasks into the binary task list format and decodes them back.
+ * <pre>
+ * file     := MAGIC VERSION block* END
+ * block    := varint(length of payload) payload crc32(payload, 4 bytes big-endian)
+ * payload  := STRING_TABLE varint(count) string*         the first block, holding every description and remark
+ *           | TASKS varint(count) task*                  at most TASKS_PER_BLOCK tasks
+ * string   := varint(length) utf-8 bytes
+ * task     := varint(index) varint(week) category flags [zigzag(official deadline epoch day)]
+ *             [zigzag(customized deadline epoch day)] varint(description string) [varint(remark string)]
+ * END      := varint(0)
+ * </pre>
+ * Repeated descriptions and remarks are stored once in the string table and referred to by their position in it.
+ */
+class TaskListBinaryCodec {
+    public static final String MESSAGE_CORRUPTED = "Binary task list file is corrupted: %s";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary task list file version %d is not supported.";
+
+    static final byte[] MAGIC = {'A', 'C', 'E', 'T'};
+    static final int VERSION = 1;
+    static final int TASKS_PER_BLOCK = 4096;
+
+    private static final int STRING_TABLE = 1;
+    private static final int TASKS = 2;
+
+    private static final int CUSTOMIZED = 1;
+    private static final int DONE = 1 << 1;
+    private static final int HAS_OFFICIAL_DEADLINE = 1 << 2;
+    private static final int HAS_CUSTOMIZED_DEADLINE = 1 << 3;
+    private static final int HAS_REMARK = 1 << 4;
+
+    /** Categories by their code in the file; the order must never change. */
+    private static final TaskCategory[] CATEGORIES = {
+        TaskCategory.ADMIN, TaskCategory.TOPIC, TaskCategory.IP, TaskCategory.TP, TaskCategory.TASK
+    };
+
+    /**
+     * Writes {@code tasks} to {@code out} in the binary format, one block at a time.
+     */
+    public static void encode(List<Task> tasks, OutputStream out) throws IOException {
+        out.write(MAGIC);
+        out.write(VERSION);
+
+        HashMap<String, Integer> stringIds = new HashMap<>();
+        ByteWriter block = new ByteWriter();
+        block.writeVarint(STRING_TABLE);
+        List<String> strings = new ArrayList<>();
+        for (Task task : tasks) {
+            addString(task.getDescription().value, stringIds, strings);
+            if (task.getRemark() != null && task.getRemark().value != null) {
+                addString(task.getRemark().value, stringIds, strings);
+            }
+        }
+        block.writeVarint(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            block.writeVarint(bytes.length);
+            block.write(bytes, 0, bytes.length);
+        }
+        writeBlock(block, out);
+
+        for (int start = 0; start < tasks.size(); start += TASKS_PER_BLOCK) {
+            int end = Math.min(tasks.size(), start + TASKS_PER_BLOCK);
+            block.reset();
+            block.writeVarint(TASKS);
+            block.writeVarint(end - start);
+            for (Task task : tasks.subList(start, end)) {
+                encodeTask(task, stringIds, block);
+            }
+            writeBlock(block, out);
+        }
+
+        block.reset();
+        block.writeVarint(0);
+        out.write(block.buffer, 0, block.size());
+    }
+
+    private static void addString(String string, HashMap<String, Integer> stringIds, List<String> strings) {
+        if (stringIds.putIfAbsent(string, strings.size()) == null) {
+            strings.add(string);
+        }
+    }
+
+    private static void encodeTask(Task task, HashMap<String, Integer> stringIds, ByteWriter block) {
+        boolean hasRemark = task.getRemark() != null && task.getRemark().value != null;
+        int flags = (task.isCustomized() ? CUSTOMIZED : 0)
+                | (task.isDone() ? DONE : 0)
+                | (task.getOfficialDeadline() != null ? HAS_OFFICIAL_DEADLINE : 0)
+                | (task.getCustomizedDeadline() != null ? HAS_CUSTOMIZED_DEADLINE : 0)
+                | (hasRemark ? HAS_REMARK : 0);
+
+        block.writeVarint(task.getIndex().getIndexValue());
+        block.writeVarint(task.getWeekNumber().getWeekValueInt());
+        block.writeByte(getCategoryCode(task.getCategory()));
+        block.writeByte(flags);
+        if (task.getOfficialDeadline() != null) {
+            block.writeZigzag(task.getOfficialDeadline().getTimeInfo().toEpochDay());
+        }
+        if (task.getCustomizedDeadline() != null) {
+            block.writeZigzag(task.getCustomizedDeadline().getTimeInfo().toEpochDay());
+        }
+        block.writeVarint(stringIds.get(task.getDescription().value));
+        if (hasRemark) {
+            block.writeVarint(stringIds.get(task.getRemark().value));
+        }
+    }
+
+    private static int getCategoryCode(TaskCategory category) {
+        for (int code = 0; code < CATEGORIES.length; code++) {
+            if (CATEGORIES[code] == category) {
+                return code;
+            }
+        }
+        throw new AssertionError("Unknown category " + category);
+    }
+
+    private static void writeBlock(ByteWriter block, OutputStream out) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(block.buffer, 0, block.size());
+        ByteWriter header = new ByteWriter();
+        header.writeVarint(block.size());
+        out.write(header.buffer, 0, header.size());
+        out.write(block.buffer, 0, block.size());
+        long checksum = crc.getValue();
+        out.write((int) (checksum >>> 24));
+        out.write((int) (checksum >>> 16));
+        out.write((int) (checksum >>> 8));
+        out.write((int) checksum);
+    }
+
+    /**
+     * Checks whether {@code data} starts like a file in the binary format.
+     */
+    public static boolean hasMagic(byte[] data) {
+        return data.length >= MAGIC.length && Arrays.equals(Arrays.copyOf(data, MAGIC.length), MAGIC);
+    }
+
+    /**
+     * Reads the tasks in {@code data}, which holds a whole file in the binary format.
+     *
+     * @throws IllegalValueException if the data is not in the binary format or any block is corrupted.
+     */
+    public static List<Task> decode(byte[] data) throws IllegalValueException {
+        if (!hasMagic(data)) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "unknown file type"));
+        }
+        ByteReader reader = new ByteReader(data, MAGIC.length, data.length - MAGIC.length);
+        int version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] strings = null;
+        List<Task> tasks = new ArrayList<>();
+        ByteReader block = readBlock(reader);
+        while (block != null) {
+            int type = block.readVarint();
+            if (type == STRING_TABLE && strings == null) {
+                strings = new String[block.readVarint()];
+                for (int i = 0; i < strings.length; i++) {
+                    strings[i] = block.readString();
+                }
+            } else if (type == TASKS && strings != null) {
+                int count = block.readVarint();
+                for (int i = 0; i < count; i++) {
+                    tasks.add(decodeTask(block, strings));
+                }
+            } else {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "unexpected block " + type));
+            }
+            block = readBlock(reader);
+        }
+        return tasks;
+    }
+
+    /**
+     * Reads the next block after checking its checksum, or returns null at the end of the file.
+     */
+    private static ByteReader readBlock(ByteReader reader) throws IllegalValueException {
+        int length = reader.readVarint();
+        if (length == 0) {
+            return null;
+        }
+        ByteReader block = new ByteReader(reader.data, reader.position, length);
+        reader.skip(length);
+        long checksum = reader.readInt() & 0xFFFFFFFFL;
+        CRC32 crc = new CRC32();
+        crc.update(reader.data, block.position, length);
+        if (checksum != crc.getValue()) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED,
+                    "checksum mismatch at byte " + block.position));
+        }
+        return block;
+    }
+
+    private static Task decodeTask(ByteReader block, String[] strings) throws IllegalValueException {
+        int indexValue = block.readVarint();
+        int week = block.readVarint();
+        int category = block.readByte();
+        int flags = block.readByte();
+        if (!Index.isValidIndex("0" + indexValue) || !WeekNumber.isValidWeekNumber(Integer.toString(week))
+                || category >= CATEGORIES.length) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "invalid task"));
+        }
+
+        OfficialDeadline officialDeadline = null;
+        CustomizedDeadline customizedDeadline = null;
+        try {
+            if ((flags & HAS_OFFICIAL_DEADLINE) != 0) {
+                LocalDate date = LocalDate.ofEpochDay(block.readZigzag());
+                officialDeadline = new OfficialDeadline(date.toString(), date);
+            }
+            if ((flags & HAS_CUSTOMIZED_DEADLINE) != 0) {
+                LocalDate date = LocalDate.ofEpochDay(block.readZigzag());
+                customizedDeadline = new CustomizedDeadline(date.toString(), date);
+            }
+        } catch (DateTimeException | IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "invalid deadline"));
+        }
+        Description description = new Description(block.readString(strings));
+        Remark remark = new Remark((flags & HAS_REMARK) != 0 ? block.readString(strings) : null);
+
+        return createTask(CATEGORIES[category], Index.of("0" + indexValue), WeekNumber.of(week), description,
+                officialDeadline, customizedDeadline, remark, (flags & CUSTOMIZED) != 0, (flags & DONE) != 0);
+    }
+
+    static Task createTask(TaskCategory category, Index index, WeekNumber weekNumber,
+                           Description description, OfficialDeadline officialDeadline,
+                           CustomizedDeadline customizedDeadline, Remark remark,
+                           boolean isCustomized, boolean isDone) {
+        switch (category) {
+        case ADMIN:
+            return new Admin(index, weekNumber, description, officialDeadline, customizedDeadline, remark,
+                    isCustomized, isDone);
+        case TOPIC:
+            return new Topic(index, weekNumber, description, officialDeadline, customizedDeadline, remark,
+                    isCustomized, isDone);
+        case IP:
+            return new IP(index, weekNumber, description, officialDeadline, customizedDeadline, remark,
+                    isCustomized, isDone);
+        case TP:
+            return new TP(index, weekNumber, description, officialDeadline, customizedDeadline, remark,
+                    isCustomized, isDone);
+        default:
+            return new Task(index, weekNumber, description, officialDeadline, customizedDeadline, remark,
+                    isCustomized, isDone);
+        }
+    }
+
+    /**
+     * Growable byte buffer with variable-length integer encoding.
+     */
+    private static class ByteWriter {
+        private byte[] buffer = new byte[1024];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void reset() {
+            size = 0;
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void write(byte[] bytes, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(bytes, offset, buffer, size, length);
+            size += length;
+        }
+
+        /**
+         * Writes a non-negative number in 7-bit groups, least significant first, so small numbers take one byte.
+         */
+        void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        /**
+         * Writes a number which may be negative, mapping numbers of small magnitude to small varints.
+         */
+        void writeZigzag(long value) {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(size + extra, buffer.length * 2));
+            }
+        }
+    }
+
+    /**
+     * Reads what {@link ByteWriter} writes, failing with an {@code IllegalValueException} at the end of the data.
+     */
+    private static class ByteReader {
+        private final byte[] data;
+        private final int limit;
+        private int position;
+
+        ByteReader(byte[] data, int position, int length) {
+            this.data = data;
+            this.position = position;
+            this.limit = position + length;
+        }
+
+        int readByte() throws IllegalValueException {
+            skip(1);
+            return data[position - 1] & 0xFF;
+        }
+
+        void skip(int length) throws IllegalValueException {
+            if (length < 0 || length > limit - position) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "unexpected end of data"));
+            }
+            position += length;
+        }
+
+        int readInt() throws IllegalValueException {
+            return (readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+        }
+
+        long readVarLong() throws IllegalValueException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "malformed number"));
+        }
+
+        int readVarint() throws IllegalValueException {
+            long value = readVarLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "number out of range"));
+            }
+            return (int) value;
+        }
+
+        long readZigzag() throws IllegalValueException {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() throws IllegalValueException {
+            int length = readVarint();
+            skip(length);
+            return new String(data, position - length, length, StandardCharsets.UTF_8);
+        }
+
+        String readString(String[] strings) throws IllegalValueException {
+            int id = readVarint();
+            if (id >= strings.length) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "unknown string " + id));
+            }
+            return strings[id];
+        }
+    }
+}
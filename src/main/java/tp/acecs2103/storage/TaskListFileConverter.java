@@ -0,0 +1,65 @@
+package tp.acecs2103.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import tp.acecs2103.commons.core.LogsCenter;
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.model.TaskList;
+
+/**
+ * Converts task lists between the JSON, binary and sharded layouts.
+ */
+public class TaskListFileConverter {
+    public static final String MESSAGE_USAGE = "Usage: TaskListFileConverter SOURCE_FILE TARGET_FILE\n"
+            + "The target is written in the binary format if its name ends with "
+            + BinaryTaskListStorage.FILE_EXTENSION + ", as shards in a directory if it has no extension, "
+            + "and in JSON otherwise. It is compressed if its name ends with " + FileCompression.GZIP.extension
+            + " or " + FileCompression.DEFLATE.extension + ".";
+
+    private static final Logger logger = LogsCenter.getLogger(TaskListFileConverter.class);
+
+    private TaskListFileConverter() {}
+
+    /**
+     * Reads the task list at {@code source}, in whichever format it is in and including its journal,
+     * and writes it to {@code target} in the format given by the file name of {@code target}.
+     *
+     * @throws FileNotFoundException if there is no task list at {@code source}.
+     * @throws DataConversionException if the task list at {@code source} is not in a valid format.
+     */
+    public static void convert(Path source, Path target) throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        TaskList taskList = StorageManager.createIncrementalTaskListStorage(source, false, FileCompression.NONE)
+                .readTaskList()
+                .orElseThrow(() -> new FileNotFoundException("Task list file not found: " + source));
+        StorageManager.createTaskListStorageForName(target, true, FileCompression.NONE).saveTaskList(taskList);
+        // a journal left next to the target belongs to the file which was replaced
+        Files.deleteIfExists(TaskListJournal.getJournalFilePath(target));
+        logger.info("Converted " + taskList.size() + " tasks from " + source + " to " + target);
+    }
+
+    /**
+     * Converts the task list file given as the first argument into the file given as the second argument.
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        try {
+            convert(Paths.get(args[0]), Paths.get(args[1]));
+        } catch (DataConversionException | IOException e) {
+            System.err.println("Could not convert " + args[0] + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package tp.acecs2103.storage;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.model.TaskList;
+
+/**
+ * A storage whose file can be read as it is, without the side effects of {@link TaskListStorage#readTaskList()}:
+ * the file is not recovered from its backups, corrupt tasks are skipped without being quarantined, and nothing is
+ * written or migrated.
+ */
+interface TaskListFileReader {
+    /**
+     * Reads the task list in the file of the storage as it is.
+     *
+     * @return the task list, or {@code Optional.empty()} if there is no file.
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IOException if there was any problem when reading from the file.
+     */
+    Optional<TaskList> readTaskListFile() throws DataConversionException, IOException;
+}
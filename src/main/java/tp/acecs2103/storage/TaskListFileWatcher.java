@@ -0,0 +1,199 @@
+package tp.acecs2103.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import tp.acecs2103.commons.core.LogsCenter;
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.model.TaskList;
+
+/**
+ * Watches the file of a task list for changes made by other programs, such as a file synchronised from another
+ * machine, and passes the task list read from the changed file to a handler on the watching thread.
+ * A changed file is only read once it has not changed for the debounce interval, so that a file written in several
+ * steps is read once, when it is complete. Files written by this application are not read again, as long as every
+ * write is reported to {@link #markOwnWrite()}.
+ */
+public class TaskListFileWatcher {
+    private static final Logger logger = LogsCenter.getLogger(TaskListFileWatcher.class);
+
+    private final TaskListStorage storage;
+    /** Reads the changed file of {@code storage} without recovering it from backups or writing anything. */
+    private final TaskListFileReader reader;
+    private final long debounceMillis;
+    private final Consumer<TaskList> changeHandler;
+    /** The directory holding the file of the task list, or the directory of shards. */
+    private final Path directory;
+    /** Whether all shards in {@code directory} are watched, rather than only the file of the task list. */
+    private final boolean isDirectoryWatched;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /** Size and modification time of every watched file as this application last read or wrote it. */
+    private Map<Path, String> knownFingerprint;
+
+    /**
+     * Creates a {@code TaskListFileWatcher} for the file of {@code storage}, which it uses to read the changed file.
+     * A file which cannot be read is not recovered from its backups, so that a file still being written by another
+     * program is never mistaken for a damaged one.
+     *
+     * @param debounceMillis how long the file must stay unchanged before it is read.
+     * @param changeHandler the handler given every task list read from the changed file.
+     * @throws IOException if the file cannot be watched.
+     */
+    public TaskListFileWatcher(TaskListStorage storage, long debounceMillis, Consumer<TaskList> changeHandler)
+            throws IOException {
+        requireNonNull(storage);
+        requireNonNull(changeHandler);
+        this.storage = storage;
+        this.reader = storage instanceof TaskListFileReader ? (TaskListFileReader) storage : storage::readTaskList;
+        this.debounceMillis = debounceMillis;
+        this.changeHandler = changeHandler;
+
+        Path filePath = storage.getTaskListFilePath().toAbsolutePath();
+        isDirectoryWatched = storage instanceof ShardedTaskListStorage || Files.isDirectory(filePath);
+        directory = isDirectoryWatched ? filePath : filePath.getParent();
+        Files.createDirectories(directory);
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        thread = new Thread(this::watch, "task-list-watcher");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching, taking the file as it is now to be the file last read by this application.
+     */
+    public void start() {
+        markOwnWrite();
+        thread.start();
+    }
+
+    /**
+     * Stops watching.
+     */
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching task list file: " + e);
+        }
+    }
+
+    /**
+     * Records that the file as it is now was written by this application, so that it is not read again.
+     * This must be called right after every write.
+     */
+    public synchronized void markOwnWrite() {
+        knownFingerprint = getFingerprint();
+    }
+
+    private void watch() {
+        // time in nanoseconds at which to read the changed file, or -1 if there is no change to read
+        long readAt = -1;
+        try {
+            while (true) {
+                WatchKey key = readAt < 0
+                        ? watchService.take()
+                        : watchService.poll(Math.max(0, readAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (key == null) {
+                    readAt = -1;
+                    readChangedFile();
+                    continue;
+                }
+                if (hasWatchedEvent(key)) {
+                    readAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+                }
+                if (!key.reset()) {
+                    logger.warning("Stopped watching task list file as " + directory + " is no longer accessible");
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // the watcher is closed
+        }
+    }
+
+    private boolean hasWatchedEvent(WatchKey key) {
+        boolean hasWatchedEvent = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            hasWatchedEvent |= event.kind() == OVERFLOW || isWatchedFile((Path) event.context());
+        }
+        return hasWatchedEvent;
+    }
+
+    private boolean isWatchedFile(Path fileName) {
+        if (isDirectoryWatched) {
+            return ShardedTaskListStorage.isShardFileName(fileName.toString());
+        }
+        return fileName.equals(storage.getTaskListFilePath().getFileName());
+    }
+
+    /**
+     * Reads the watched file and passes it to the handler, unless it is the same as when this application last
+     * read or wrote it.
+     */
+    private void readChangedFile() {
+        synchronized (this) {
+            Map<Path, String> fingerprint = getFingerprint();
+            if (fingerprint.equals(knownFingerprint)) {
+                return;
+            }
+            knownFingerprint = fingerprint;
+        }
+
+        logger.info("Task list file " + storage.getTaskListFilePath() + " changed outside the application");
+        Optional<TaskList> taskList;
+        try {
+            taskList = reader.readTaskListFile();
+        } catch (DataConversionException | IOException e) {
+            // the file may still be incomplete, and it is read again when it changes next
+            logger.warning("Failed to read changed task list file: " + e);
+            return;
+        }
+        taskList.ifPresent(changeHandler);
+    }
+
+    /**
+     * Gets the size and modification time of every watched file, which change whenever a file is written.
+     */
+    private Map<Path, String> getFingerprint() {
+        Map<Path, String> fingerprint = new TreeMap<>();
+        if (!isDirectoryWatched) {
+            addFingerprint(fingerprint, directory.resolve(storage.getTaskListFilePath().getFileName()));
+            return fingerprint;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> isWatchedFile(file.getFileName()))
+                    .forEach(file -> addFingerprint(fingerprint, file));
+        } catch (IOException e) {
+            logger.warning("Failed to list task list files: " + e);
+        }
+        return fingerprint;
+    }
+
+    private static void addFingerprint(Map<Path, String> fingerprint, Path file) {
+        try {
+            fingerprint.put(file, Files.size(file) + "@" + Files.getLastModifiedTime(file));
+        } catch (IOException e) {
+            // the file does not exist, or is being replaced
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package tp.acecs2103.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import tp.acecs2103.commons.core.LogsCenter;
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.commons.util.FileUtil;
+import tp.acecs2103.commons.util.JsonUtil;
+
+/**
+ * Append-only file of changes made to a task list since its last snapshot.
+ * Every record is written as compact JSON on a line of its own, so saving a change only appends to the file.
+ */
+class TaskListJournal {
+    private static final Logger logger = LogsCenter.getLogger(TaskListJournal.class);
+
+    private final Path filePath;
+    /** Number of records in the file, or -1 if the file has not been read yet. */
+    private int recordCount = -1;
+
+    /**
+     * Creates a journal stored at {@code filePath}.
+     */
+    public TaskListJournal(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Gets the path of the journal of the task list stored at {@code taskListFilePath}.
+     */
+    public static Path getJournalFilePath(Path taskListFilePath) {
+        return taskListFilePath.resolveSibling(taskListFilePath.getFileName() + ".journal");
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Appends {@code records} to the end of the journal and forces them to disk.
+     * All records given are forced together, so callers should pass every record they have at once.
+     */
+    public void append(Collection<JsonAdaptedJournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        int count = getRecordCount();
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath,
+                StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            JsonGenerator generator = JsonUtil.createGenerator(Channels.newOutputStream(channel), false);
+            generator.setRootValueSeparator(null);
+            for (JsonAdaptedJournalRecord record : records) {
+                JsonUtil.writeValue(generator, record);
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+            channel.force(false);
+        }
+        recordCount = count + records.size();
+    }
+
+    /**
+     * Reads all records in the journal, in the order they were appended.
+     * A last record which is cut short, as left by a crash while appending, is ignored.
+     * Records whose task does not match its checksum are skipped, and their tasks are quarantined as done by
+     * {@link TaskListBackups#quarantine(Path, Collection)}, so the task keeps its state from before the record.
+     *
+     * @throws DataConversionException if any other record is not in the expected format.
+     */
+    public List<JsonAdaptedJournalRecord> read() throws DataConversionException {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        List<JsonAdaptedTask> corruptTasks = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            recordCount = 0;
+            return records;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                if (!line.isBlank()) {
+                    try {
+                        JsonAdaptedJournalRecord record = JsonUtil.fromJsonString(line,
+                                JsonAdaptedJournalRecord.class);
+                        if (record.hasValidChecksum()) {
+                            records.add(record);
+                        } else {
+                            corruptTasks.add(record.getTask());
+                        }
+                    } catch (IOException e) {
+                        if (nextLine != null) {
+                            throw e;
+                        }
+                        logger.warning("Ignoring incomplete last record of journal " + filePath);
+                    }
+                }
+                line = nextLine;
+            }
+            TaskListBackups.quarantine(filePath, corruptTasks);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        recordCount = records.size() + corruptTasks.size();
+        return records;
+    }
+
+    /**
+     * Gets the number of records in the journal.
+     */
+    public int getRecordCount() throws IOException {
+        if (recordCount == -1 && Files.exists(filePath)) {
+            try (Stream<String> lines = Files.lines(filePath, StandardCharsets.UTF_8)) {
+                recordCount = (int) lines.filter(line -> !line.isBlank()).count();
+            }
+        } else if (recordCount == -1) {
+            recordCount = 0;
+        }
+        return recordCount;
+    }
+
+    /**
+     * Removes all records from the journal.
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(filePath);
+        recordCount = 0;
+    }
+
+    /**
+     * Moves all records to a file at {@code targetPath}, leaving the journal empty, so that the records are kept
+     * but no longer replayed.
+     */
+    public void moveTo(Path targetPath) throws IOException {
+        if (Files.exists(filePath)) {
+            Files.move(filePath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        recordCount = 0;
+    }
+}
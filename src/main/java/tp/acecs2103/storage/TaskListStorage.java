@@ -26,6 +26,17 @@ public interface TaskListStorage {
      */
     Optional<TaskList> readTaskList(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Recovers the TaskList after {@link #readTaskList()} found the data in storage not in the expected format,
+     * by replacing the data with its newest readable backup if the storage keeps backups.
+     *   Returns {@code Optional.empty()} if there is no readable backup, in which case the data is left as it is.
+     * @throws DataConversionException if the data restored from the backup is not in the expected format.
+     * @throws IOException if there was any problem when reading from or writing to the storage.
+     */
+    default Optional<TaskList> recoverTaskList() throws DataConversionException, IOException {
+        return Optional.empty();
+    }
+
     /**
      * Saves the given {@link TaskList} to the storage.
      * @param taskList cannot be null.
@@ -0,0 +1,126 @@
+package tp.acecs2103.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.model.task.Task;
+
+/**
+ * Formats which tasks are imported from and exported to, one record per task.
+ * Records are read and written one at a time as the file is streamed, so a file is never held in memory as a whole.
+ * The format of a file is given by its extension, which may be followed by the extension of a
+ * {@link FileCompression}, such as {@code tasks.csv.gz}.
+ */
+public enum TaskRecordFormat {
+    /** Comma-separated values with a header row, one row per task, exported week by week. */
+    CSV(".csv"),
+    /** iCalendar, one all-day event on the deadline of each task which has one, exported in deadline order. */
+    ICALENDAR(".ics");
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "Only .csv and .ics files can be imported or exported.";
+    static final String MESSAGE_INVALID_RECORD = "Line %1$d of %2$s is not a valid task: %3$s";
+
+    public final String extension;
+
+    TaskRecordFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Gets the format given by the extension of {@code filePath}, ignoring the extension of its compression,
+     * or an empty {@code Optional} if the extension is not that of any format.
+     */
+    public static Optional<TaskRecordFormat> forFileName(Path filePath) {
+        String fileName = FileCompression.getUncompressedFileName(filePath).toLowerCase();
+        for (TaskRecordFormat format : values()) {
+            if (fileName.endsWith(format.extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Opens the existing file at {@code filePath} for reading its tasks one at a time.
+     * The returned reader must be closed.
+     */
+    TaskRecordReader openReader(Path filePath) throws IOException {
+        BufferedReader in = new BufferedReader(
+                new InputStreamReader(FileCompression.newInputStream(filePath), StandardCharsets.UTF_8));
+        switch (this) {
+        case ICALENDAR:
+            return new ICalendarTaskRecordReader(in, filePath);
+        default:
+            return new CsvTaskRecordReader(in, filePath);
+        }
+    }
+
+    /**
+     * Reads all tasks in the existing file at {@code filePath}, one at a time.
+     *
+     * @throws DataConversionException if any task in the file is not valid.
+     */
+    public List<Task> read(Path filePath) throws DataConversionException, IOException {
+        List<Task> tasks = new ArrayList<>();
+        try (TaskRecordReader reader = openReader(filePath)) {
+            Task task;
+            while ((task = reader.read()) != null) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Replaces the content of {@code filePath} atomically with the tasks of {@code taskList}, written one at a time
+     * as they are iterated in the export order of this format, without copying them first.
+     *
+     * @return the number of tasks written.
+     */
+    public int write(Path filePath, TaskList taskList) throws IOException {
+        int[] count = new int[1];
+        FileCompression.forFileName(filePath, FileCompression.NONE).writeAtomically(filePath, out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            try (TaskRecordWriter recordWriter = createWriter(writer)) {
+                for (Task task : getExportOrder(taskList)) {
+                    if (recordWriter.write(task)) {
+                        count[0]++;
+                    }
+                }
+            }
+        });
+        return count[0];
+    }
+
+    private TaskRecordWriter createWriter(Writer writer) throws IOException {
+        switch (this) {
+        case ICALENDAR:
+            return new ICalendarTaskRecordWriter(writer);
+        default:
+            return new CsvTaskRecordWriter(writer);
+        }
+    }
+
+    /**
+     * Gets the tasks of {@code taskList} to export, as a view in the order of this format.
+     */
+    private Iterable<Task> getExportOrder(TaskList taskList) {
+        switch (this) {
+        case ICALENDAR:
+            return taskList.inDeadlineOrder();
+        default:
+            return taskList.inWeekOrder();
+        }
+    }
+}
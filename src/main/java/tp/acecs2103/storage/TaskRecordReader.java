@@ -0,0 +1,22 @@
+package tp.acecs2103.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.model.task.Task;
+
+/**
+ * Reads the tasks of a file one record at a time.
+ */
+interface TaskRecordReader extends Closeable {
+
+    /**
+     * Reads the next task of the file.
+     *
+     * @return the task, or {@code null} if there are no more tasks.
+     * @throws DataConversionException if the next record is not a valid task.
+     * @throws IOException if the file cannot be read.
+     */
+    Task read() throws DataConversionException, IOException;
+}
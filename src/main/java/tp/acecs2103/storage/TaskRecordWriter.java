@@ -0,0 +1,20 @@
+package tp.acecs2103.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import tp.acecs2103.model.task.Task;
+
+/**
+ * Writes tasks to a file one record at a time.
+ * The writer must be closed to finish the file.
+ */
+interface TaskRecordWriter extends Closeable {
+
+    /**
+     * Writes {@code task} as the next record of the file, unless the format cannot hold it.
+     *
+     * @return whether {@code task} was written.
+     */
+    boolean write(Task task) throws IOException;
+}
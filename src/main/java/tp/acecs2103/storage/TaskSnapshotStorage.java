@@ -0,0 +1,18 @@
+package tp.acecs2103.storage;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A {@code TaskListStorage} which can save tasks captured as {@code JsonAdaptedTask}s without building the model's
+ * {@code TaskList} holding them.
+ */
+interface TaskSnapshotStorage extends TaskListStorage {
+    /**
+     * Saves {@code tasks} to the file of the storage, as {@link #saveTaskList(tp.acecs2103.model.TaskList)} saves
+     * a task list holding them.
+     *
+     * @throws IOException if there was any problem writing to the file, or a task is not valid.
+     */
+    void saveTasks(List<JsonAdaptedTask> tasks) throws IOException;
+}
@@ -0,0 +1,240 @@
+package tp.acecs2103.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import tp.acecs2103.commons.core.LogsCenter;
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.storage.IncrementalTaskListStorage.Update;
+
+/**
+ * Saves task lists on a background thread, so that the thread changing the task list never waits for the disk.
+ * Saving only captures what has changed since the last save; the captured changes are written once no save has been
+ * requested for {@code flushIntervalMillis}, but never more than {@code maxUnsavedMillis} after the first of them,
+ * so that a burst of saves is written together. Failed writes are reported to the failure handler, and what they
+ * failed to write is kept queued, to be written with the next save, flush or close.
+ */
+public class WriteBehindTaskListStorage implements TaskListStorage {
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindTaskListStorage.class);
+
+    private final IncrementalTaskListStorage storage;
+    private final long flushIntervalMillis;
+    private final long maxUnsavedMillis;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-list-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Consumer<IOException> failureHandler = e -> {};
+    private Runnable writeHandler = () -> {};
+
+    /** The task list last saved, or null if none has been; used only on the thread which changes it. */
+    private TaskList savedTaskList;
+    /** Updates captured but not written yet, or null if there are none. */
+    private Update queuedUpdate;
+    /** Time in nanoseconds at which the oldest of the queued updates was captured. */
+    private long queuedSince;
+    private ScheduledFuture<?> scheduledWrite;
+
+    /**
+     * Creates a {@code WriteBehindTaskListStorage} which writes to {@code storage} in the background.
+     *
+     * @param flushIntervalMillis how long to wait for further saves before writing.
+     * @param maxUnsavedMillis the longest time a save may wait before it is written.
+     */
+    public WriteBehindTaskListStorage(IncrementalTaskListStorage storage, long flushIntervalMillis,
+                                      long maxUnsavedMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxUnsavedMillis = maxUnsavedMillis;
+    }
+
+    /**
+     * Sets the handler notified, on the background thread, of every write which fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Sets the handler notified, on the background thread, right after every write which succeeds.
+     */
+    public void setWriteHandler(Runnable writeHandler) {
+        requireNonNull(writeHandler);
+        this.writeHandler = writeHandler;
+    }
+
+    @Override
+    public Path getTaskListFilePath() {
+        return storage.getTaskListFilePath();
+    }
+
+    @Override
+    public Optional<TaskList> readTaskList() throws DataConversionException, IOException {
+        return readTaskList(getTaskListFilePath());
+    }
+
+    @Override
+    public Optional<TaskList> readTaskList(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readTaskList(filePath);
+    }
+
+    @Override
+    public Optional<TaskList> recoverTaskList() throws DataConversionException, IOException {
+        flush();
+        return storage.recoverTaskList();
+    }
+
+    /**
+     * Queues the changes made to {@code taskList} since it was last saved to be written in the background.
+     * This must be called on the thread which changes {@code taskList}, and does not throw if the write fails.
+     */
+    @Override
+    public void saveTaskList(TaskList taskList) {
+        savedTaskList = taskList;
+        Update update = storage.captureUpdate(taskList);
+        synchronized (this) {
+            queuedUpdate = queuedUpdate == null ? update : queuedUpdate.merge(update);
+            if (writer.isShutdown()) {
+                flush();
+                return;
+            }
+            long now = System.nanoTime();
+            if (scheduledWrite == null) {
+                queuedSince = now;
+            } else {
+                scheduledWrite.cancel(false);
+            }
+            long maxDelay = maxUnsavedMillis - TimeUnit.NANOSECONDS.toMillis(now - queuedSince);
+            long delay = Math.max(0, Math.min(flushIntervalMillis, maxDelay));
+            scheduledWrite = writer.schedule(this::writeQueuedUpdate, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves {@code taskList} immediately if {@code filePath} is not the file of this storage,
+     * and queues the save otherwise.
+     */
+    @Override
+    public void saveTaskList(TaskList taskList, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getTaskListFilePath())) {
+            saveTaskList(taskList);
+            return;
+        }
+        storage.saveTaskList(taskList, filePath);
+    }
+
+    /**
+     * Writes all queued changes and waits until they are written.
+     * Failures are reported to the failure handler.
+     */
+    public void flush() {
+        if (writer.isShutdown()) {
+            writeQueuedUpdate();
+            return;
+        }
+        try {
+            writer.submit(this::writeQueuedUpdate).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Unexpected error while writing task list: " + e.getCause());
+        }
+    }
+
+    /**
+     * Stops the background thread, writes all queued changes on the calling thread and closes the underlying storage.
+     * If the changes cannot be written, the task list last saved is captured again and written once more, which
+     * rewrites it in full where the underlying storage requires that after a failed write. Failures are logged rather
+     * than reported to the failure handler, as the app is expected to be exiting.
+     * Later saves are written immediately on the calling thread.
+     * This must be called on the thread which changes the task list.
+     */
+    public void close() {
+        synchronized (this) {
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+            }
+        }
+        // the cancelled writes are dropped, and a write already started is waited for
+        writer.shutdown();
+        try {
+            writer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            writeQueued();
+        } catch (IOException e) {
+            logger.warning("Failed to save task list before exiting, retrying: " + e);
+            retryQueuedUpdate();
+        }
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close task list storage: " + e);
+        }
+    }
+
+    private void retryQueuedUpdate() {
+        if (savedTaskList != null) {
+            Update update = storage.captureUpdate(savedTaskList);
+            synchronized (this) {
+                queuedUpdate = queuedUpdate == null ? update : queuedUpdate.merge(update);
+            }
+        }
+        try {
+            writeQueued();
+        } catch (IOException e) {
+            logger.severe("Failed to save task list before exiting, the latest changes are lost: " + e);
+        }
+    }
+
+    private void writeQueuedUpdate() {
+        try {
+            writeQueued();
+        } catch (IOException e) {
+            logger.warning("Failed to save task list in the background: " + e);
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Writes all queued changes. If they cannot be written, they are queued again ahead of the changes queued since.
+     */
+    private void writeQueued() throws IOException {
+        Update update;
+        synchronized (this) {
+            update = queuedUpdate;
+            queuedUpdate = null;
+            scheduledWrite = null;
+        }
+        if (update == null) {
+            return;
+        }
+        try {
+            storage.writeUpdate(update);
+        } catch (IOException e) {
+            synchronized (this) {
+                queuedUpdate = queuedUpdate == null ? update : update.merge(queuedUpdate);
+            }
+            throw e;
+        }
+        writeHandler.run();
+    }
+}
@@ -132,6 +132,13 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Shows {@code feedbackToUser} in the feedback box.
+     */
+    public void showFeedbackToUser(String feedbackToUser) {
+        feedbackBox.setFeedbackToUser(feedbackToUser);
+    }
+
     /**
      * Refreshes the title of category panel.
      */
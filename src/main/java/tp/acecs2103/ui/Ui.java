@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code feedbackToUser} in the feedback box. Must be called on the JavaFX application thread. */
+    void showFeedbackToUser(String feedbackToUser);
+
 }
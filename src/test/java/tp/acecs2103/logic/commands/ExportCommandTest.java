@@ -0,0 +1,95 @@
+package tp.acecs2103.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tp.acecs2103.testutil.Assert.assertThrows;
+import static tp.acecs2103.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tp.acecs2103.logic.commands.exceptions.CommandException;
+import tp.acecs2103.model.Model;
+import tp.acecs2103.model.ModelManager;
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.model.UserPrefs;
+import tp.acecs2103.model.task.Task;
+
+public class ExportCommandTest {
+    private static final Path FILE_PATH = Paths.get("data", "deadlines.ics");
+
+    private final Model model = new ModelManager(getTypicalTaskList(), new UserPrefs());
+
+    @Test
+    public void execute_tasksWritten_countOfWrittenTasksShown() throws Exception {
+        TaskRecordFilesStub taskRecordFiles = new TaskRecordFilesStub(3, null);
+
+        CommandResult result = new ExportCommand(FILE_PATH).execute(model, taskRecordFiles);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 3, FILE_PATH), result.getFeedbackToUser());
+        assertSame(model.getTaskList(), taskRecordFiles.writtenTaskList);
+        assertEquals(FILE_PATH, taskRecordFiles.writtenFilePath);
+    }
+
+    @Test
+    public void execute_writeFails_throwsCommandException() {
+        TaskRecordFilesStub taskRecordFiles = new TaskRecordFilesStub(0, new IOException("Disk full"));
+
+        assertThrows(CommandException.class, String.format(ExportCommand.MESSAGE_EXPORT_FAILED, FILE_PATH,
+                "Disk full"), () -> new ExportCommand(FILE_PATH).execute(model, taskRecordFiles));
+    }
+
+    @Test
+    public void execute_withoutTaskRecordFiles_throwsCommandException() {
+        assertThrows(CommandException.class, FileCommand.MESSAGE_FILES_UNAVAILABLE, () ->
+                new ExportCommand(FILE_PATH).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(FILE_PATH);
+
+        assertTrue(exportCommand.equals(exportCommand));
+        assertTrue(exportCommand.equals(new ExportCommand(Paths.get("data", "deadlines.ics"))));
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("tasks.csv"))));
+        assertFalse(exportCommand.equals(new ImportCommand(FILE_PATH)));
+        assertFalse(exportCommand.equals(null));
+    }
+
+    /**
+     * A {@code TaskRecordFiles} stub which records the task list written, and reports the same number of tasks
+     * written, or fails the same way, for every file written.
+     */
+    private static class TaskRecordFilesStub implements TaskRecordFiles {
+        private final int writtenCount;
+        private final IOException failure;
+        private TaskList writtenTaskList;
+        private Path writtenFilePath;
+
+        TaskRecordFilesStub(int writtenCount, IOException failure) {
+            this.writtenCount = writtenCount;
+            this.failure = failure;
+        }
+
+        @Override
+        public List<Task> readTasks(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int writeTasks(TaskList taskList, Path filePath) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            writtenTaskList = taskList;
+            writtenFilePath = filePath;
+            return writtenCount;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package tp.acecs2103.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tp.acecs2103.testutil.TypicalTasks.AdminTwo;
+import static tp.acecs2103.testutil.TypicalTasks.IpTwo;
+import static tp.acecs2103.testutil.TypicalTasks.TopicTwo;
+import static tp.acecs2103.testutil.TypicalTasks.TpTwo;
+import static tp.acecs2103.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import tp.acecs2103.commons.core.Messages;
+import tp.acecs2103.model.Model;
+import tp.acecs2103.model.ModelManager;
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.model.UserPrefs;
+import tp.acecs2103.testutil.TaskBuilder;
+
+public class FilterCommandTest {
+
+    @Test
+    public void execute_tasksDueInDateRange_pendingTasksInRangeDisplayed() throws Exception {
+        TaskList taskList = getTypicalTaskList();
+        taskList.resetTask(TpTwo, new TaskBuilder(TpTwo).withIsDone(true).buildTp());
+        Model model = new ModelManager(taskList, new UserPrefs());
+
+        CommandResult result =
+                new FilterCommand(LocalDate.of(2020, 10, 15), LocalDate.of(2020, 10, 31)).execute(model);
+
+        assertEquals(Arrays.asList(AdminTwo), model.getAdminList());
+        assertEquals(Arrays.asList(TopicTwo), model.getTopicList());
+        assertEquals(Arrays.asList(IpTwo), model.getIpList());
+        assertEquals(Arrays.asList(), model.getTpList());
+        assertEquals(FilterCommand.MESSAGE_SUCCESS + "\nStatus: pending\nDue: 2020-10-15 to 2020-10-31\n-->"
+                + String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW, 3), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_nextTasksDue_firstPendingTasksDisplayed() throws Exception {
+        LocalDate today = LocalDate.now();
+        TaskList taskList = new TaskList();
+        taskList.add(new TaskBuilder(AdminTwo).withCustomizedDeadline(today.plusDays(3).toString()).buildAdmin());
+        taskList.add(new TaskBuilder(TopicTwo).withCustomizedDeadline(today.plusDays(1).toString()).buildTopic());
+        taskList.add(new TaskBuilder(IpTwo).withCustomizedDeadline(today.plusDays(2).toString()).buildIp());
+        taskList.add(new TaskBuilder(TpTwo).withCustomizedDeadline(today.minusDays(1).toString()).buildTp());
+        Model model = new ModelManager(taskList, new UserPrefs());
+
+        CommandResult result = new FilterCommand(2).execute(model);
+
+        assertEquals(Arrays.asList(), model.getAdminList());
+        assertEquals(1, model.getTopicList().size());
+        assertEquals(1, model.getIpList().size());
+        assertEquals(Arrays.asList(), model.getTpList());
+        assertEquals(FilterCommand.MESSAGE_SUCCESS + "\nStatus: pending\nDue: next 2 tasks\n-->"
+                + String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+    }
+}
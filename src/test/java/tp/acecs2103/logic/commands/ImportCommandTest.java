@@ -0,0 +1,119 @@
+package tp.acecs2103.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tp.acecs2103.testutil.Assert.assertThrows;
+import static tp.acecs2103.testutil.TypicalTasks.AdminTwo;
+import static tp.acecs2103.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.commons.exceptions.IllegalValueException;
+import tp.acecs2103.logic.commands.exceptions.CommandException;
+import tp.acecs2103.model.Model;
+import tp.acecs2103.model.ModelManager;
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.model.UserPrefs;
+import tp.acecs2103.model.task.Task;
+import tp.acecs2103.testutil.TaskBuilder;
+
+public class ImportCommandTest {
+    private static final Path FILE_PATH = Paths.get("data", "tasks.csv");
+
+    private final Model model = new ModelManager(getTypicalTaskList(), new UserPrefs());
+
+    @Test
+    public void execute_tasksInFile_addedAndReplaced() throws Exception {
+        Task changedTask = new TaskBuilder(AdminTwo).withRemark("Changed remark").buildAdmin();
+        Task newTask = new TaskBuilder().withIndex("0150").withWeekNumber("5").buildTopic();
+        TaskRecordFilesStub taskRecordFiles = new TaskRecordFilesStub(Arrays.asList(changedTask, newTask));
+
+        CommandResult result = new ImportCommand(FILE_PATH).execute(model, taskRecordFiles);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, FILE_PATH, 1, 1), result.getFeedbackToUser());
+        assertEquals(FILE_PATH, taskRecordFiles.readFilePath);
+        assertEquals(getTypicalTaskList().size() + 1, model.getTaskList().size());
+        assertEquals("Changed remark", model.getTaskList().getTask(AdminTwo.getIndex()).getRemark().value);
+        assertEquals(newTask.getIndex(), model.getTaskList().getTask(newTask.getIndex()).getIndex());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        TaskRecordFilesStub taskRecordFiles = new TaskRecordFilesStub(new NoSuchFileException(FILE_PATH.toString()));
+
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, FILE_PATH), () ->
+                new ImportCommand(FILE_PATH).execute(model, taskRecordFiles));
+    }
+
+    @Test
+    public void execute_invalidTaskInFile_nothingImported() {
+        long version = model.getTaskList().getVersion();
+        TaskRecordFilesStub taskRecordFiles = new TaskRecordFilesStub(
+                new DataConversionException(new IllegalValueException("Invalid week")));
+
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_IMPORT_FAILED, FILE_PATH,
+                "Invalid week"), () -> new ImportCommand(FILE_PATH).execute(model, taskRecordFiles));
+        assertEquals(version, model.getTaskList().getVersion());
+    }
+
+    @Test
+    public void execute_withoutTaskRecordFiles_throwsCommandException() {
+        assertThrows(CommandException.class, FileCommand.MESSAGE_FILES_UNAVAILABLE, () ->
+                new ImportCommand(FILE_PATH).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(FILE_PATH);
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("data", "tasks.csv"))));
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("tasks.ics"))));
+        assertFalse(importCommand.equals(new ExportCommand(FILE_PATH)));
+        assertFalse(importCommand.equals(null));
+    }
+
+    /**
+     * A {@code TaskRecordFiles} stub which gives the same tasks, or fails the same way, for every file read.
+     */
+    private static class TaskRecordFilesStub implements TaskRecordFiles {
+        private final List<Task> tasks;
+        private final Exception failure;
+        private Path readFilePath;
+
+        TaskRecordFilesStub(List<Task> tasks) {
+            this.tasks = tasks;
+            this.failure = null;
+        }
+
+        TaskRecordFilesStub(Exception failure) {
+            this.tasks = null;
+            this.failure = failure;
+        }
+
+        @Override
+        public List<Task> readTasks(Path filePath) throws DataConversionException, IOException {
+            readFilePath = filePath;
+            if (failure instanceof DataConversionException) {
+                throw (DataConversionException) failure;
+            } else if (failure != null) {
+                throw (IOException) failure;
+            }
+            return tasks;
+        }
+
+        @Override
+        public int writeTasks(TaskList taskList, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -18,7 +18,7 @@ public class AddCommandParserTest {
     public void parse_validAddCommand_withRemark_success() {
         AddCommandParser addCommandParser = new AddCommandParser();
         String parametersStub = "add i/0101 w/1 d/CyberPunk2077 c/2020-12-10 r/release a/Ip";
-        Task task = new IP(new Index("0101"), new WeekNumber("1"), new Description("CyberPunk2077"), null,
+        Task task = new IP(Index.of("0101"), WeekNumber.of("1"), new Description("CyberPunk2077"), null,
                 new CustomizedDeadline("2020-12-10", LocalDate.parse("2020-12-10")),
                 new Remark("release"), true, false);
         AddCommand expected;
@@ -40,7 +40,7 @@ public class AddCommandParserTest {
     public void parse_validAddCommand_withoutRemark_success() {
         AddCommandParser addCommandParser = new AddCommandParser();
         String parametersStub = "add i/0101 w/1 d/CyberPunk2077 c/2020-12-10 a/Ip";
-        Task task = new IP(new Index("0101"), new WeekNumber("1"), new Description("CyberPunk2077"), null,
+        Task task = new IP(Index.of("0101"), WeekNumber.of("1"), new Description("CyberPunk2077"), null,
                 new CustomizedDeadline("2020-12-10", LocalDate.parse("2020-12-10")),
                 new Remark(""), true, false);
         AddCommand expected;
@@ -154,7 +154,7 @@ public class AddCommandParserTest {
     public void parse_validAddCommand_unorderedArguments_success() {
         AddCommandParser addCommandParser = new AddCommandParser();
         String parametersStub = "add a/Ip c/2020-12-10 w/1 i/0101 d/CyberPunk2077";
-        Task task = new IP(new Index("0101"), new WeekNumber("1"), new Description("CyberPunk2077"), null,
+        Task task = new IP(Index.of("0101"), WeekNumber.of("1"), new Description("CyberPunk2077"), null,
                 new CustomizedDeadline("2020-12-10", LocalDate.parse("2020-12-10")),
                 new Remark(""), true, false);
         AddCommand expected;
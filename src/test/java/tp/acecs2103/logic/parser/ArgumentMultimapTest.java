@@ -1,4 +1,39 @@
 package tp.acecs2103.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tp.acecs2103.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static tp.acecs2103.logic.parser.CliSyntax.PREFIX_WEEK_NUMBER;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
 public class ArgumentMultimapTest {
+
+    @Test
+    public void getValue_absentPrefix_returnsEmptyString() {
+        assertEquals("", new ArgumentMultimap().getValue(PREFIX_WEEK_NUMBER).get());
+    }
+
+    @Test
+    public void put_valuesOfSeveralPrefixes_keptApartInOrder() {
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        for (int i = 1; i <= 5; i++) {
+            argMultimap.put(PREFIX_WEEK_NUMBER, String.valueOf(i));
+            argMultimap.put(PREFIX_DESCRIPTION, "d" + i);
+        }
+        argMultimap.put(new Prefix(""), "preamble");
+
+        assertEquals(List.of("1", "2", "3", "4", "5"), argMultimap.getAllValues(new Prefix("w/")));
+        assertEquals("d5", argMultimap.getValue(PREFIX_DESCRIPTION).get());
+        assertEquals("preamble", argMultimap.getPreamble());
+    }
+
+    @Test
+    public void getAllValues_modifyReturnedList_mapUnchanged() {
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        argMultimap.put(PREFIX_WEEK_NUMBER, "1");
+        argMultimap.getAllValues(PREFIX_WEEK_NUMBER).add("2");
+        assertEquals(List.of("1"), argMultimap.getAllValues(PREFIX_WEEK_NUMBER));
+    }
 }
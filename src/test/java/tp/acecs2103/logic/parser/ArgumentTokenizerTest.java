@@ -1,4 +1,78 @@
 package tp.acecs2103.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tp.acecs2103.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static tp.acecs2103.logic.parser.CliSyntax.PREFIX_INDEX;
+import static tp.acecs2103.logic.parser.CliSyntax.PREFIX_REMARK;
+import static tp.acecs2103.logic.parser.CliSyntax.PREFIX_WEEK_NUMBER;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
 public class ArgumentTokenizerTest {
+
+    private final Prefix unknownPrefix = new Prefix("--u");
+    private final Prefix dashT = new Prefix("-t");
+    private final Prefix hatQ = new Prefix("^Q");
+
+    @Test
+    public void tokenize_emptyArgsString_emptyPreamble() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("", PREFIX_INDEX);
+        assertEquals("", argMultimap.getPreamble());
+        assertEquals(List.of(), argMultimap.getAllValues(PREFIX_INDEX));
+    }
+
+    @Test
+    public void tokenize_noPrefixes_allTakenAsPreamble() {
+        String argsString = "  some random string /t tag with leading and trailing spaces ";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString);
+        assertEquals(argsString.trim(), argMultimap.getPreamble());
+    }
+
+    @Test
+    public void tokenize_cliSyntaxPrefixes_valuesTrimmed() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" 3 i/ 101  w/5 d/Lecture quiz r/",
+                PREFIX_INDEX, PREFIX_WEEK_NUMBER, PREFIX_DESCRIPTION, PREFIX_REMARK);
+        assertEquals("3", argMultimap.getPreamble());
+        assertEquals("101", argMultimap.getValue(PREFIX_INDEX).get());
+        assertEquals("5", argMultimap.getValue(PREFIX_WEEK_NUMBER).get());
+        assertEquals("Lecture quiz", argMultimap.getValue(PREFIX_DESCRIPTION).get());
+        assertEquals(List.of(""), argMultimap.getAllValues(PREFIX_REMARK));
+    }
+
+    @Test
+    public void tokenize_repeatedPrefix_valuesAccumulated() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" w/1 d/a w/2 w/ 3", PREFIX_WEEK_NUMBER,
+                PREFIX_DESCRIPTION);
+        assertEquals(List.of("1", "2", "3"), argMultimap.getAllValues(PREFIX_WEEK_NUMBER));
+        assertEquals("3", argMultimap.getValue(PREFIX_WEEK_NUMBER).get());
+        assertEquals("a", argMultimap.getValue(PREFIX_DESCRIPTION).get());
+    }
+
+    @Test
+    public void tokenize_prefixWithoutLeadingWhitespace_takenAsValue() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("w/1 d/a/w/2 d/x", PREFIX_WEEK_NUMBER,
+                PREFIX_DESCRIPTION);
+        assertEquals("w/1", argMultimap.getPreamble());
+        assertEquals(List.of(), argMultimap.getAllValues(PREFIX_WEEK_NUMBER));
+        assertEquals(List.of("a/w/2", "x"), argMultimap.getAllValues(PREFIX_DESCRIPTION));
+    }
+
+    @Test
+    public void tokenize_prefixNotGiven_takenAsValue() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" d/a r/b", PREFIX_DESCRIPTION);
+        assertEquals("a r/b", argMultimap.getValue(PREFIX_DESCRIPTION).get());
+        assertEquals(List.of(), argMultimap.getAllValues(PREFIX_REMARK));
+    }
+
+    @Test
+    public void tokenize_prefixesNotInCliSyntax_recognized() {
+        String argsString = "SomePreambleString -t dashT-Value ^Q ^Q -t another dashT value --u unknown -t";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, hatQ, unknownPrefix);
+        assertEquals("SomePreambleString", argMultimap.getPreamble());
+        assertEquals(List.of("dashT-Value", "another dashT value", ""), argMultimap.getAllValues(dashT));
+        assertEquals(List.of("", ""), argMultimap.getAllValues(hatQ));
+        assertEquals("unknown", argMultimap.getValue(unknownPrefix).get());
+    }
 }
@@ -16,7 +16,8 @@ public class DeadlineCommandParserTest {
     public void parse_validAddCommand_withRemark_success() {
         DeadlineCommandParser deadlineCommandParser = new DeadlineCommandParser();
         String parametersStub = "i/0101 c/2020-08-17";
-        DeadlineCommand expected = new DeadlineCommand(new Index("0101"), new CustomizedDeadline("2020-08-17", LocalDate.parse("2020-08-17")));
+        DeadlineCommand expected = new DeadlineCommand(Index.of("0101"),
+                new CustomizedDeadline("2020-08-17", LocalDate.parse("2020-08-17")));
         try {
             assertEquals(expected, deadlineCommandParser.parse(parametersStub));
         } catch (ParseException e) {
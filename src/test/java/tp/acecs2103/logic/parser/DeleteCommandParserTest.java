@@ -16,7 +16,7 @@ public class DeleteCommandParserTest {
     public void parse_validDeleteCommand_success() {
         DeleteCommandParser deleteCommandParser = new DeleteCommandParser();
         String parametersStub = "0101";
-        DeleteCommand expected = new DeleteCommand(new Index("0101"));
+        DeleteCommand expected = new DeleteCommand(Index.of("0101"));
         try {
             assertEquals(expected, deleteCommandParser.parse(parametersStub));
         } catch (ParseException e) {
@@ -12,7 +12,7 @@ public class DoneCommandParserTest {
     public void parse_validDoneCommand_success() {
         DoneCommandParser doneCommandParser = new DoneCommandParser();
         String parametersStub = "0101";
-        DoneCommand expected = new DoneCommand(new Index("0101"));
+        DoneCommand expected = new DoneCommand(Index.of("0101"));
         try {
             assertEquals(expected.getTargetIndex(), doneCommandParser.parse(parametersStub).getTargetIndex());
         } catch (ParseException e) {
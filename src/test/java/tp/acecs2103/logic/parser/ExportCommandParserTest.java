@@ -0,0 +1,29 @@
+package tp.acecs2103.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tp.acecs2103.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import tp.acecs2103.logic.commands.ExportCommand;
+import tp.acecs2103.logic.parser.exceptions.ParseException;
+
+public class ExportCommandParserTest {
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validFilePath_success() throws Exception {
+        assertEquals(new ExportCommand(Paths.get("data", "tasks.csv")),
+                parser.parse(" data/tasks.csv "));
+        assertEquals(new ExportCommand(Paths.get("deadlines.ICS.gz")),
+                parser.parse("deadlines.ICS.gz"));
+    }
+
+    @Test
+    public void parse_invalidFilePath_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(""));
+        assertThrows(ParseException.class, () -> parser.parse("data/tasks.json"));
+    }
+}
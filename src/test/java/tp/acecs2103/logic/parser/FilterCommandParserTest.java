@@ -1,4 +1,50 @@
 package tp.acecs2103.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tp.acecs2103.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import tp.acecs2103.logic.commands.FilterCommand;
+import tp.acecs2103.logic.parser.exceptions.ParseException;
+import tp.acecs2103.model.task.WeekNumber;
+
 public class FilterCommandParserTest {
+    private final FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_doneOrPendingTasks_success() throws Exception {
+        assertEquals(new FilterCommand("done"), parser.parse(" k/done"));
+        assertEquals(new FilterCommand("done", WeekNumber.of("4")), parser.parse(" w/4 k/done"));
+        assertEquals(new FilterCommand("pending", "official", WeekNumber.of("11")),
+                parser.parse(" w/11 k/pending l/official"));
+    }
+
+    @Test
+    public void parse_tasksDueInDateRange_success() throws Exception {
+        assertEquals(new FilterCommand(LocalDate.of(2020, 10, 1), LocalDate.of(2020, 10, 14)),
+                parser.parse(" k/due f/2020-10-01 u/2020-10-14"));
+        assertEquals(new FilterCommand(LocalDate.of(2020, 10, 1), LocalDate.of(2020, 10, 1)),
+                parser.parse(" u/2020-10-01 k/due f/2020-10-01"));
+    }
+
+    @Test
+    public void parse_nextTasksDue_success() throws Exception {
+        assertEquals(new FilterCommand(5), parser.parse(" k/next n/5"));
+    }
+
+    @Test
+    public void parse_invalidTasksDueArguments_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(" k/due f/2020-10-01"));
+        assertThrows(ParseException.class, () -> parser.parse(" k/due f/2020-10-14 u/2020-10-01"));
+        assertThrows(ParseException.class, () -> parser.parse(" k/due f/2020-10-01 u/2020-13-01"));
+        assertThrows(ParseException.class, () -> parser.parse(" w/3 k/due f/2020-10-01 u/2020-10-14"));
+        assertThrows(ParseException.class, () -> parser.parse(" k/next"));
+        assertThrows(ParseException.class, () -> parser.parse(" k/next n/0"));
+        assertThrows(ParseException.class, () -> parser.parse(" k/next n/five"));
+        assertThrows(ParseException.class, () -> parser.parse(" k/next n/5 f/2020-10-01"));
+        assertThrows(ParseException.class, () -> parser.parse(" k/pending l/official n/5"));
+    }
 }
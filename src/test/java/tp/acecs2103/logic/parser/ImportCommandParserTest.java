@@ -0,0 +1,29 @@
+package tp.acecs2103.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tp.acecs2103.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import tp.acecs2103.logic.commands.ImportCommand;
+import tp.acecs2103.logic.parser.exceptions.ParseException;
+
+public class ImportCommandParserTest {
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validFilePath_success() throws Exception {
+        assertEquals(new ImportCommand(Paths.get("data", "tasks.csv")),
+                parser.parse(" data/tasks.csv "));
+        assertEquals(new ImportCommand(Paths.get("deadlines.ICS.gz")),
+                parser.parse("deadlines.ICS.gz"));
+    }
+
+    @Test
+    public void parse_invalidFilePath_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(""));
+        assertThrows(ParseException.class, () -> parser.parse("data/tasks.json"));
+    }
+}
@@ -14,7 +14,7 @@ public class ListCommandParserTest {
     public void parse_validListCommand1_success() {
         ListCommandParser listCommandParser = new ListCommandParser();
         String parametersStub = "1";
-        ListCommand expected = new ListCommand(new WeekNumber("1"));
+        ListCommand expected = new ListCommand(WeekNumber.of("1"));
         try {
             assertEquals(expected.getWeekNumber(), listCommandParser.parse(parametersStub).getWeekNumber());
         } catch (ParseException e) {
@@ -26,7 +26,7 @@ public class ListCommandParserTest {
     public void parse_validListCommand2_success() {
         ListCommandParser listCommandParser = new ListCommandParser();
         String parametersStub = "13";
-        ListCommand expected = new ListCommand(new WeekNumber("13"));
+        ListCommand expected = new ListCommand(WeekNumber.of("13"));
         try {
             assertEquals(expected.getWeekNumber(), listCommandParser.parse(parametersStub).getWeekNumber());
         } catch (ParseException e) {
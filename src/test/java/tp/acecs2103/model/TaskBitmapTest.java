@@ -0,0 +1,55 @@
+package tp.acecs2103.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskBitmapTest {
+
+    @Test
+    public void set_positionBeyondCapacity_growsBitmap() {
+        TaskBitmap bitmap = new TaskBitmap();
+        bitmap.set(200, true);
+        assertTrue(bitmap.get(200));
+        assertFalse(bitmap.get(199));
+        assertFalse(bitmap.get(1000));
+        assertEquals(200, bitmap.nextSetBit(0));
+        assertEquals(-1, bitmap.nextSetBit(201));
+    }
+
+    @Test
+    public void remove_position_shiftsFollowingBitsAcrossWords() {
+        TaskBitmap bitmap = new TaskBitmap();
+        bitmap.set(3, true);
+        bitmap.set(10, true);
+        bitmap.set(64, true);
+        bitmap.set(130, true);
+        bitmap.remove(5);
+        assertTrue(bitmap.get(3));
+        assertTrue(bitmap.get(9));
+        assertTrue(bitmap.get(63));
+        assertTrue(bitmap.get(129));
+        assertEquals(4, bitmap.cardinality());
+
+        bitmap.remove(63);
+        assertFalse(bitmap.get(63));
+        assertTrue(bitmap.get(128));
+        assertEquals(3, bitmap.cardinality());
+    }
+
+    @Test
+    public void and_returnsBitsSetInBoth() {
+        TaskBitmap first = new TaskBitmap();
+        first.set(1, true);
+        first.set(70, true);
+        TaskBitmap second = new TaskBitmap();
+        second.set(1, true);
+        second.set(2, true);
+
+        TaskBitmap and = first.and(second);
+        assertEquals(1, and.cardinality());
+        assertTrue(and.get(1));
+    }
+}
@@ -5,17 +5,30 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tp.acecs2103.testutil.Assert.assertThrows;
 import static tp.acecs2103.testutil.TypicalTasks.AdminOne;
+import static tp.acecs2103.testutil.TypicalTasks.AdminTwo;
+import static tp.acecs2103.testutil.TypicalTasks.IpOne;
+import static tp.acecs2103.testutil.TypicalTasks.IpTwo;
+import static tp.acecs2103.testutil.TypicalTasks.TopicOne;
+import static tp.acecs2103.testutil.TypicalTasks.TopicTwo;
+import static tp.acecs2103.testutil.TypicalTasks.TpOne;
+import static tp.acecs2103.testutil.TypicalTasks.TpTwo;
 import static tp.acecs2103.testutil.TypicalTasks.getTypicalTaskList;
 
+import java.time.LocalDate;
 import java.util.*;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import tp.acecs2103.model.exceptions.InvalidTaskListOperationException;
 import tp.acecs2103.model.task.Admin;
+import tp.acecs2103.model.task.CustomizedDeadline;
+import tp.acecs2103.model.task.Index;
 import tp.acecs2103.model.task.Remark;
 import tp.acecs2103.model.task.Task;
+import tp.acecs2103.model.task.TaskCategory;
+import tp.acecs2103.model.task.WeekNumber;
 import tp.acecs2103.testutil.TaskBuilder;
 
 public class TaskListTest {
@@ -57,4 +70,228 @@ public class TaskListTest {
         assertTrue(taskList.hasTask(editedAdminOne));
     }
 
+    @Test
+    public void getTask_afterDelete_returnsShiftedTasks() throws Exception {
+        TaskList typicalTaskList = getTypicalTaskList();
+        typicalTaskList.delete(AdminTwo.getIndex());
+        assertEquals(null, typicalTaskList.getTask(AdminTwo.getIndex()));
+        assertEquals(TopicOne, typicalTaskList.getTask(Index.of("0201")));
+        assertFalse(typicalTaskList.hasTask(AdminTwo));
+    }
+
+    @Test
+    public void done_taskNotInTaskList_throwsInvalidTaskListOperationException() {
+        assertThrows(InvalidTaskListOperationException.class, () -> taskList.done(AdminOne.getIndex()));
+    }
+
+    @Test
+    public void resetTask_editedTask_replacesTaskAtSamePosition() {
+        TaskList typicalTaskList = getTypicalTaskList();
+        Task editedAdminTwo = new TaskBuilder(AdminTwo).withRemark("Edited").buildAdmin();
+        typicalTaskList.resetTask(AdminTwo, editedAdminTwo);
+        assertEquals(editedAdminTwo, typicalTaskList.getTaskList().get(1));
+        assertEquals("Edited", typicalTaskList.getTask(AdminTwo.getIndex()).getRemark().value);
+    }
+
+    @Test
+    public void list_taskMovedToAnotherWeek_keepsTaskListOrder() {
+        TaskList typicalTaskList = getTypicalTaskList();
+        Task movedTopicTwo = new TaskBuilder(TopicTwo).withWeekNumber("1").buildTopic();
+        typicalTaskList.resetTask(TopicTwo, movedTopicTwo);
+        assertEquals(Arrays.asList(AdminOne, AdminTwo, movedTopicTwo),
+                typicalTaskList.list(WeekNumber.of("1")));
+        assertEquals(Arrays.asList(TopicOne), typicalTaskList.list(WeekNumber.of("2")));
+        assertEquals(new ArrayList<>(), typicalTaskList.list(WeekNumber.of("13")));
+    }
+
+    @Test
+    public void find_keyword_returnsTasksContainingKeywordInOrder() {
+        TaskList typicalTaskList = getTypicalTaskList();
+        assertEquals(Arrays.asList(IpOne, IpTwo), typicalTaskList.find("iP"));
+        assertEquals(Arrays.asList(AdminOne, TopicOne, IpOne, TpOne), typicalTaskList.find("one"));
+        assertEquals(typicalTaskList.getTaskList(), typicalTaskList.find("o remar"));
+        assertEquals(new ArrayList<>(), typicalTaskList.find("one two"));
+    }
+
+    @Test
+    public void find_andOrKeywords_returnsMatchingTasks() {
+        TaskList typicalTaskList = getTypicalTaskList();
+        assertEquals(Arrays.asList(IpOne), typicalTaskList.find("ip AND one"));
+        assertEquals(Arrays.asList(AdminOne, AdminTwo, IpOne), typicalTaskList.find("admin OR ip AND one"));
+    }
+
+    @Test
+    public void find_queryPartWithoutKeyword_partIgnored() {
+        TaskList typicalTaskList = getTypicalTaskList();
+        assertEquals(Arrays.asList(AdminOne, AdminTwo, IpOne, IpTwo), typicalTaskList.find("admin OR  AND  OR ip"));
+        assertEquals(new ArrayList<>(), typicalTaskList.find(" AND "));
+    }
+
+    @Test
+    public void find_afterEditAndDelete_usesUpdatedText() {
+        TaskList typicalTaskList = getTypicalTaskList();
+        Task editedTopicTwo = new TaskBuilder(TopicTwo).withDescription("Quiz").buildTopic();
+        typicalTaskList.resetTask(TopicTwo, editedTopicTwo);
+        assertEquals(Arrays.asList(editedTopicTwo), typicalTaskList.find("quiz"));
+        assertEquals(Arrays.asList(TopicOne), typicalTaskList.find("topic"));
+        assertEquals(Arrays.asList(AdminOne, AdminTwo), typicalTaskList.find("admin"));
+        try {
+            typicalTaskList.delete(AdminTwo.getIndex());
+        } catch (InvalidTaskListOperationException e) {
+            throw new AssertionError(e);
+        }
+        assertEquals(Arrays.asList(AdminOne), typicalTaskList.find("admin"));
+    }
+
+    @Test
+    public void filter_pendingTasks_returnsTasksOrderedByDeadline() {
+        TaskList typicalTaskList = getTypicalTaskList();
+        List<Task> expected = Arrays.asList(AdminOne, TopicOne, IpOne, TpOne, AdminTwo, TopicTwo, IpTwo, TpTwo);
+        assertEquals(expected, typicalTaskList.filter(false, false, null));
+        // tasks without official deadline come last
+        assertEquals(expected, typicalTaskList.filter(false, true, null));
+        assertEquals(Arrays.asList(AdminOne, AdminTwo), typicalTaskList.filter(false, true, WeekNumber.of("1")));
+        assertEquals(new ArrayList<>(), typicalTaskList.filter(true, false, WeekNumber.of("1")));
+    }
+
+    @Test
+    public void dueBetween_dateRange_returnsPendingTasksInRange() {
+        TaskList typicalTaskList = getTypicalTaskList();
+        assertEquals(Arrays.asList(AdminTwo, TopicTwo, IpTwo, TpTwo),
+                typicalTaskList.dueBetween(LocalDate.of(2020, 10, 11), LocalDate.of(2020, 10, 20)));
+        assertEquals(new ArrayList<>(),
+                typicalTaskList.dueBetween(LocalDate.of(2020, 10, 11), LocalDate.of(2020, 10, 19)));
+        assertEquals(new ArrayList<>(),
+                typicalTaskList.dueBetween(LocalDate.of(2020, 10, 20), LocalDate.of(2020, 10, 10)));
+    }
+
+    @Test
+    public void nextDue_count_returnsFirstPendingTasksFromDate() {
+        TaskList typicalTaskList = getTypicalTaskList();
+        assertEquals(Arrays.asList(AdminOne, TopicOne), typicalTaskList.nextDue(LocalDate.of(2020, 10, 1), 2));
+        assertEquals(Arrays.asList(AdminTwo, TopicTwo, IpTwo, TpTwo),
+                typicalTaskList.nextDue(LocalDate.of(2020, 10, 11), 10));
+    }
+
+    @Test
+    public void deadline_newCustomizedDeadline_reordersPendingTasks() throws InvalidTaskListOperationException {
+        Task first = new TaskBuilder().withIndex("0501").withWeekNumber("5").withOfficialDeadline("2020-10-10")
+                .withCustomizedDeadline(null).withIsCustomized(false).buildAdmin();
+        Task second = new TaskBuilder().withIndex("0502").withWeekNumber("5").withOfficialDeadline("2020-10-05")
+                .withCustomizedDeadline(null).withIsCustomized(false).buildAdmin();
+        TaskList taskList = new TaskList(new ArrayList<>(Arrays.asList(first, second)), WeekNumber.of("5"));
+        assertEquals(Arrays.asList(second, first), taskList.filter(false, false, null));
+
+        taskList.deadline(first.getIndex(), new CustomizedDeadline("2020-10-01", LocalDate.of(2020, 10, 1)));
+        assertEquals(Arrays.asList(first, second), taskList.filter(false, false, null));
+        assertEquals(Arrays.asList(second, first), taskList.filter(false, true, null));
+    }
+
+    @Test
+    public void filter_pendingTasksOfWeekAfterDoneAndUndone_returnsPendingTasksOfWeek()
+            throws InvalidTaskListOperationException {
+        TaskList typicalTaskList = getTypicalTaskList();
+        typicalTaskList.done(TopicOne.getIndex());
+        assertEquals(Arrays.asList(TopicTwo), typicalTaskList.filter(false, false, WeekNumber.of("2")));
+        assertEquals(Arrays.asList(AdminOne, AdminTwo), typicalTaskList.filter(false, false, WeekNumber.of("1")));
+        assertEquals(new ArrayList<>(), typicalTaskList.filter(false, false, WeekNumber.of("13")));
+        assertEquals(Arrays.asList(AdminOne, TopicOne, IpOne, TpOne, AdminTwo, TopicTwo, IpTwo, TpTwo),
+                new ArrayList<>(typicalTaskList.inDeadlineOrder()));
+
+        typicalTaskList.undone(TopicOne.getIndex());
+        assertEquals(Arrays.asList(TopicOne, TopicTwo), typicalTaskList.filter(false, false, WeekNumber.of("2")));
+    }
+
+    @Test
+    public void bitmaps_afterDoneAndDelete_stayInSync() throws InvalidTaskListOperationException {
+        Task first = new TaskBuilder().withIndex("0501").withWeekNumber("5").withOfficialDeadline("2020-10-10")
+                .withCustomizedDeadline(null).withIsCustomized(false).buildAdmin();
+        Task second = new TaskBuilder().withIndex("0502").withWeekNumber("5").withOfficialDeadline(null)
+                .withCustomizedDeadline("2020-09-01").withIsCustomized(true).buildTopic();
+        Task third = new TaskBuilder().withIndex("0503").withWeekNumber("5").withOfficialDeadline(null)
+                .withCustomizedDeadline("2020-11-01").withIsCustomized(true).buildAdmin();
+        TaskList taskList = new TaskList(new ArrayList<>(Arrays.asList(first, second, third)), WeekNumber.of("5"));
+
+        assertEquals(Arrays.asList(first, third), taskList.getTasks(taskList.getCategoryBitmap(TaskCategory.ADMIN)));
+        assertEquals(Arrays.asList(first, second, third),
+                taskList.getTasks(taskList.getWeekBitmap(WeekNumber.of("5"))));
+
+        taskList.done(third.getIndex());
+        assertEquals(Arrays.asList(third), taskList.filter(true, false, null));
+        taskList.delete(second.getIndex());
+        assertEquals(Arrays.asList(third), taskList.filter(true, false, WeekNumber.of("5")));
+        assertEquals(Arrays.asList(first, third), taskList.getTasks(taskList.getCategoryBitmap(TaskCategory.ADMIN)));
+        assertEquals(Arrays.asList(first, third), taskList.getTasks(taskList.getWeekBitmap(WeekNumber.of("5"))));
+        assertEquals(new ArrayList<>(), taskList.getTasks(taskList.getWeekBitmap(WeekNumber.of("6"))));
+    }
+
+    @Test
+    public void fromTasks_validTasks_buildsIndexes() throws InvalidTaskListOperationException {
+        TaskList taskList = TaskList.fromTasks(getTypicalTaskList().getTaskList(), WeekNumber.of(2));
+        assertEquals(getTypicalTaskList(), taskList);
+        assertEquals(Arrays.asList(TopicOne, TopicTwo), taskList.find());
+        assertEquals(IpTwo, taskList.getTask(IpTwo.getIndex()));
+        assertEquals(Arrays.asList(TpOne), taskList.find("tp one"));
+    }
+
+    @Test
+    public void fromTasks_duplicateIndexes_throwsInvalidTaskListOperationException() {
+        Task duplicate = new TaskBuilder(AdminTwo).withIndex(AdminOne.getIndex().value).buildAdmin();
+        assertThrows(InvalidTaskListOperationException.class, () ->
+                TaskList.fromTasks(Arrays.asList(AdminOne, duplicate), WeekNumber.of(1)));
+    }
+
+    @Test
+    public void getVersion_viewChangesAndTaskChanges_onlyTaskChangesCounted() throws InvalidTaskListOperationException {
+        Task task = new TaskBuilder().withIndex("0101").buildAdmin();
+        long version = taskList.getVersion();
+
+        taskList.setTimeRange(WeekNumber.of(3));
+        taskList.list(WeekNumber.of(4));
+        taskList.find("task");
+        assertEquals(version, taskList.getVersion());
+
+        taskList.add(task);
+        taskList.done(task.getIndex());
+        taskList.resetData(new TaskList());
+        assertEquals(version + 3, taskList.getVersion());
+    }
+
+    @Test
+    public void merge_changedTasks_onlyDifferencesApplied() {
+        TaskList typicalTaskList = getTypicalTaskList();
+        WeekNumber timeRange = typicalTaskList.getTimeRange();
+        ArrayList<Task> newTasks = new ArrayList<>(typicalTaskList.getTaskList());
+        newTasks.remove(AdminOne);
+        newTasks.set(newTasks.indexOf(TopicOne), new TaskBuilder(TopicOne).withIsDone(true).buildTopic());
+        newTasks.add(new TaskBuilder().withIndex("0501").withWeekNumber("5").buildIp());
+        List<TaskListChange.Type> changes = new ArrayList<>();
+        typicalTaskList.addListener(change -> changes.add(change.getType()));
+
+        assertEquals(3, typicalTaskList.merge(new TaskList(newTasks, WeekNumber.of(5))));
+        assertEquals(Arrays.asList(TaskListChange.Type.REMOVED, TaskListChange.Type.UPDATED,
+                TaskListChange.Type.ADDED), changes);
+        assertEquals(new TaskList(newTasks, timeRange), typicalTaskList);
+        assertTrue(typicalTaskList.getTask(TopicOne.getIndex()).isDone());
+        assertEquals(timeRange, typicalTaskList.getTimeRange());
+        assertEquals(0, typicalTaskList.merge(new TaskList(newTasks, timeRange)));
+    }
+
+    @Test
+    public void upsertAll_newAndExistingTasks_singleReset() {
+        TaskList typicalTaskList = getTypicalTaskList();
+        int size = typicalTaskList.size();
+        Task doneTopicOne = new TaskBuilder(TopicOne).withIsDone(true).buildTopic();
+        Task newTask = new TaskBuilder().withIndex("0501").withWeekNumber("5").buildIp();
+        List<TaskListChange.Type> changes = new ArrayList<>();
+        typicalTaskList.addListener(change -> changes.add(change.getType()));
+
+        assertEquals(1, typicalTaskList.upsertAll(Arrays.asList(doneTopicOne, newTask)));
+        assertEquals(Collections.singletonList(TaskListChange.Type.RESET), changes);
+        assertEquals(size + 1, typicalTaskList.size());
+        assertTrue(typicalTaskList.getTask(TopicOne.getIndex()).isDone());
+        assertEquals(newTask, typicalTaskList.getTaskList().get(size));
+        assertTrue(typicalTaskList.list(WeekNumber.of(5)).contains(newTask));
+    }
+
 }
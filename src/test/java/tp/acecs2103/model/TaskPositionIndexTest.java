@@ -0,0 +1,68 @@
+package tp.acecs2103.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import tp.acecs2103.model.task.Index;
+import tp.acecs2103.model.task.Task;
+import tp.acecs2103.testutil.TypicalTasks;
+
+public class TaskPositionIndexTest {
+
+    @Test
+    public void remove_task_laterTasksMoveDown() {
+        List<Task> tasks = TypicalTasks.getTypicalTasks();
+        TaskPositionIndex positions = new TaskPositionIndex();
+        positions.reset(tasks);
+
+        assertEquals(2, positions.remove(tasks.get(2).getIndex()));
+        assertEquals(1, positions.positionOf(tasks.get(1).getIndex()));
+        assertEquals(2, positions.positionOf(tasks.get(3).getIndex()));
+        assertEquals(6, positions.positionOf(tasks.get(7).getIndex()));
+        assertEquals(-1, positions.positionOf(tasks.get(2).getIndex()));
+        assertEquals(-1, positions.remove(tasks.get(2).getIndex()));
+        assertFalse(positions.contains(tasks.get(2).getIndex()));
+    }
+
+    @Test
+    public void positionOf_randomChanges_matchesList() {
+        List<Task> tasks = TypicalTasks.getLargeTaskList(200).getTaskList();
+        List<Index> indexes = new ArrayList<>();
+        for (Task task : tasks) {
+            indexes.add(task.getIndex());
+        }
+        TaskPositionIndex positions = new TaskPositionIndex();
+        positions.reset(tasks);
+
+        Random random = new Random(42);
+        int nextIndex = 5_000_000;
+        for (int step = 0; step < 5_000; step++) {
+            int choice = random.nextInt(10);
+            if (choice < 4 && !indexes.isEmpty()) {
+                int position = random.nextInt(indexes.size());
+                assertEquals(position, positions.remove(indexes.remove(position)));
+            } else if (choice < 5 && !indexes.isEmpty()) {
+                Index newIndex = Index.of("0" + nextIndex++);
+                positions.replace(indexes.set(random.nextInt(indexes.size()), newIndex), newIndex);
+            } else {
+                Index newIndex = Index.of("0" + nextIndex++);
+                indexes.add(newIndex);
+                positions.add(newIndex);
+            }
+            if (step % 100 == 0) {
+                for (int i = 0; i < indexes.size(); i++) {
+                    assertEquals(i, positions.positionOf(indexes.get(i)));
+                }
+            }
+        }
+        for (int i = 0; i < indexes.size(); i++) {
+            assertEquals(i, positions.positionOf(indexes.get(i)));
+        }
+    }
+}
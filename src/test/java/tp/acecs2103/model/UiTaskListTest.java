@@ -0,0 +1,60 @@
+package tp.acecs2103.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tp.acecs2103.testutil.TypicalTasks.AdminExtraOne;
+import static tp.acecs2103.testutil.TypicalTasks.AdminOne;
+import static tp.acecs2103.testutil.TypicalTasks.AdminTwo;
+import static tp.acecs2103.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import tp.acecs2103.model.task.Task;
+import tp.acecs2103.model.task.WeekNumber;
+import tp.acecs2103.testutil.TaskBuilder;
+
+public class UiTaskListTest {
+
+    private final TaskList taskList = getTypicalTaskList();
+    private final UiTaskList uiTaskList = createUiTaskList();
+
+    private UiTaskList createUiTaskList() {
+        taskList.list(WeekNumber.of("1"));
+        UiTaskList result = new UiTaskList(taskList);
+        taskList.addListener(result);
+        return result;
+    }
+
+    @Test
+    public void constructor_displaysTimeRange() {
+        assertEquals(Arrays.asList(AdminOne, AdminTwo), uiTaskList.getAdminList());
+        assertTrue(uiTaskList.getTopicList().isEmpty());
+    }
+
+    @Test
+    public void onChanged_taskEdited_replacesSingleRow() {
+        Task editedAdminTwo = new TaskBuilder(AdminTwo).withRemark("Edited").buildAdmin();
+        taskList.resetTask(AdminTwo, editedAdminTwo);
+        assertSame(AdminOne, uiTaskList.getAdminList().get(0));
+        assertSame(editedAdminTwo, uiTaskList.getAdminList().get(1));
+    }
+
+    @Test
+    public void onChanged_taskAddedAfterSearch_displaysTimeRangeAgain() {
+        uiTaskList.addAll(taskList.find("Ip"));
+        assertTrue(uiTaskList.getAdminList().isEmpty());
+        taskList.add(AdminExtraOne);
+        assertEquals(Arrays.asList(AdminOne, AdminTwo, AdminExtraOne), uiTaskList.getAdminList());
+        assertTrue(uiTaskList.getIpList().isEmpty());
+    }
+
+    @Test
+    public void onChanged_timeRangeChanged_displaysNewWeek() {
+        taskList.list(WeekNumber.of("2"));
+        assertTrue(uiTaskList.getAdminList().isEmpty());
+        assertEquals(2, uiTaskList.getTopicList().size());
+    }
+}
@@ -7,13 +7,13 @@ import tp.acecs2103.model.exceptions.InvalidTaskOperationException;
 import java.time.LocalDate;
 
 public class TaskTest {
-    private Task defaultTaskOne = new Task(new Index("0101"), new WeekNumber("1"), new Description("Test Task One"),
+    private Task defaultTaskOne = new Task(Index.of("0101"), WeekNumber.of("1"), new Description("Test Task One"),
             new OfficialDeadline("2020-09-10", LocalDate.of(2020, 9, 10)),
             null, new Remark("no remark"), false, false);
-    private Task defaultTaskTwo = new Task(new Index("0101"), new WeekNumber("1"), new Description("Test Task One"),
+    private Task defaultTaskTwo = new Task(Index.of("0101"), WeekNumber.of("1"), new Description("Test Task One"),
             new OfficialDeadline("2021-01-01", LocalDate.of(2021, 1, 1)),
             null, new Remark("no remark"), false, false);
-    private Task customizedTaskOne = new Task(new Index("0302"), new WeekNumber("3"),
+    private Task customizedTaskOne = new Task(Index.of("0302"), WeekNumber.of("3"),
             new Description("Test Task Three"), null,
             new CustomizedDeadline("2020-09-20", LocalDate.of(2020, 9, 20)),
             new Remark("no remark"), true, false);
@@ -21,9 +21,17 @@ public class TaskTest {
     @Test
     public void hasIndexTest() {
         // same indexes -> true
-        Assertions.assertTrue(defaultTaskOne.hasIndex(new Index("0101")));
+        Assertions.assertTrue(defaultTaskOne.hasIndex(Index.of("0101")));
         // difference indexes -> false
-        Assertions.assertFalse(defaultTaskOne.hasIndex(new Index("0102")));
+        Assertions.assertFalse(defaultTaskOne.hasIndex(Index.of("0102")));
+    }
+
+    @Test
+    public void indexAndWeekNumberOf_sameValue_returnsSameInstance() {
+        Assertions.assertSame(Index.of("0101"), Index.of("0101"));
+        Assertions.assertEquals(101, Index.of("0101").getIndexValue());
+        Assertions.assertSame(WeekNumber.of("3"), WeekNumber.of(3));
+        Assertions.assertEquals("3", WeekNumber.of("03").value);
     }
 
     @Test
@@ -75,7 +83,7 @@ public class TaskTest {
     public void isValidTest() {
         Assertions.assertTrue(defaultTaskOne.isValid());
 
-        Task invalidTask = new Task(new Index("0202"), new WeekNumber("2"), new Description("Test Task Two"),
+        Task invalidTask = new Task(Index.of("0202"), WeekNumber.of("2"), new Description("Test Task Two"),
                 new OfficialDeadline("2020-09-10", LocalDate.of(2020, 9, 10)),
                 null, new Remark("no remark"), true, false);
         Assertions.assertFalse(invalidTask.isValid());
@@ -83,8 +91,8 @@ public class TaskTest {
 
     @Test
     public void isWeekXTest() {
-        Assertions.assertTrue(defaultTaskOne.isWeekX(new WeekNumber("1")));
-        Assertions.assertFalse(defaultTaskOne.isWeekX(new WeekNumber("2")));
+        Assertions.assertTrue(defaultTaskOne.isWeekX(WeekNumber.of("1")));
+        Assertions.assertFalse(defaultTaskOne.isWeekX(WeekNumber.of("2")));
     }
 
     @Test
@@ -0,0 +1,91 @@
+package tp.acecs2103.storage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tp.acecs2103.testutil.Assert.assertSameTasks;
+import static tp.acecs2103.testutil.Assert.assertThrows;
+import static tp.acecs2103.testutil.TypicalTasks.getLargeTaskList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.model.TaskList;
+
+public class BinaryTaskListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveTaskList_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.bin");
+        BinaryTaskListStorage storage = new BinaryTaskListStorage(filePath);
+        TaskList original = getLargeTaskList(100);
+
+        storage.saveTaskList(original);
+        assertSameTasks(original, storage.readTaskList().get());
+
+        original.delete(original.getTaskList().get(0).getIndex());
+        storage.saveTaskList(original);
+        assertSameTasks(original, storage.readTaskList().get());
+    }
+
+    @Test
+    public void readTaskList_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTaskListStorage(testFolder.resolve("missing.bin")).readTaskList().isPresent());
+    }
+
+    @Test
+    public void saveTaskList_repeatedStrings_smallerThanJson() throws Exception {
+        TaskList taskList = getLargeTaskList(500);
+        Path binaryFile = testFolder.resolve("tasklist.bin");
+        Path jsonFile = testFolder.resolve("tasklist.json");
+        new BinaryTaskListStorage(binaryFile).saveTaskList(taskList);
+        new JsonTaskListStorage(jsonFile, false).saveTaskList(taskList);
+
+        assertTrue(Files.size(binaryFile) * 5 < Files.size(jsonFile));
+    }
+
+    @Test
+    public void readTaskList_corruptedByte_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.bin");
+        new BinaryTaskListStorage(filePath).saveTaskList(getLargeTaskList(20));
+        byte[] data = Files.readAllBytes(filePath);
+        data[data.length / 2] ^= 0x10;
+        Files.write(filePath, data);
+
+        assertThrows(DataConversionException.class, () -> new BinaryTaskListStorage(filePath).readTaskList());
+    }
+
+    @Test
+    public void createTaskListStorage_formatDetected() throws Exception {
+        Path binaryFile = testFolder.resolve("tasklist.json");
+        new BinaryTaskListStorage(binaryFile).saveTaskList(getLargeTaskList(3));
+
+        assertTrue(BinaryTaskListStorage.isBinaryFile(binaryFile));
+        assertTrue(StorageManager.createTaskListStorage(binaryFile, true) instanceof BinaryTaskListStorage);
+        assertTrue(StorageManager.createTaskListStorage(testFolder.resolve("new.bin"), true)
+                instanceof BinaryTaskListStorage);
+        assertTrue(StorageManager.createTaskListStorage(testFolder.resolve("new.json"), true)
+                instanceof JsonTaskListStorage);
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameTasks() throws Exception {
+        TaskList taskList = getLargeTaskList(50);
+        Path jsonFile = testFolder.resolve("tasklist.json");
+        Path binaryFile = testFolder.resolve("tasklist.bin");
+        Path convertedFile = testFolder.resolve("converted.json");
+        new JsonTaskListStorage(jsonFile).saveTaskList(taskList);
+
+        TaskListFileConverter.convert(jsonFile, binaryFile);
+        assertTrue(BinaryTaskListStorage.isBinaryFile(binaryFile));
+        TaskListFileConverter.convert(binaryFile, convertedFile);
+        assertFalse(BinaryTaskListStorage.isBinaryFile(convertedFile));
+        assertSameTasks(taskList, new JsonTaskListStorage(convertedFile).readTaskList().get());
+    }
+}
@@ -0,0 +1,59 @@
+package tp.acecs2103.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tp.acecs2103.testutil.TypicalTasks.getLargeTaskList;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tp.acecs2103.model.TaskList;
+
+public class FileCompressionTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void forFileName() {
+        assertEquals(FileCompression.GZIP, FileCompression.forFileName(Paths.get("tasklist.json.gz"),
+                FileCompression.NONE));
+        assertEquals(FileCompression.DEFLATE, FileCompression.forFileName(Paths.get("tasklist.bin.deflate"),
+                FileCompression.NONE));
+        assertEquals(FileCompression.GZIP, FileCompression.forFileName(Paths.get("tasklist.json"),
+                FileCompression.GZIP));
+        assertEquals("tasklist.bin", FileCompression.getUncompressedFileName(Paths.get("data", "tasklist.bin.gz")));
+    }
+
+    @Test
+    public void saveTaskList_compressedByExtension_smallerAndReadable() throws Exception {
+        TaskList taskList = getLargeTaskList(1000);
+        Path plainFile = testFolder.resolve("tasklist.json");
+        new JsonTaskListStorage(plainFile).saveTaskList(taskList);
+
+        for (String fileName : new String[] {"tasklist.json.gz", "tasklist.json.deflate", "tasklist.bin.gz"}) {
+            Path compressedFile = testFolder.resolve(fileName);
+            StorageManager.createTaskListStorage(compressedFile, true).saveTaskList(taskList);
+            assertTrue(Files.size(compressedFile) * 5 < Files.size(plainFile));
+            assertEquals(taskList, new TaskList(StorageManager.createTaskListStorage(compressedFile, true)
+                    .readTaskList().get()));
+        }
+        assertTrue(BinaryTaskListStorage.isBinaryFile(testFolder.resolve("tasklist.bin.gz")));
+    }
+
+    @Test
+    public void saveTaskList_compressedByPreference_readWhateverTheName() throws Exception {
+        TaskList taskList = getLargeTaskList(100);
+        Path filePath = testFolder.resolve("tasklist.json");
+
+        StorageManager.createTaskListStorage(filePath, false, FileCompression.GZIP).saveTaskList(taskList);
+        assertFalse(Files.readString(filePath, StandardCharsets.ISO_8859_1).startsWith("{"));
+        assertEquals(taskList, new TaskList(new JsonTaskListStorage(filePath).readTaskList().get()));
+    }
+}
@@ -0,0 +1,158 @@
+package tp.acecs2103.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tp.acecs2103.testutil.Assert.assertSameTasks;
+import static tp.acecs2103.testutil.TypicalTasks.getLargeTaskList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.model.task.Index;
+import tp.acecs2103.testutil.TaskBuilder;
+
+public class JournaledTaskListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonTaskListStorage snapshotStorage;
+    private JournaledTaskListStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        snapshotStorage = new JsonTaskListStorage(testFolder.resolve("tasklist.json"));
+        storage = new JournaledTaskListStorage(snapshotStorage);
+    }
+
+    @Test
+    public void saveTaskList_changesAfterFirstSave_onlyAppendedToJournal() throws Exception {
+        TaskList taskList = getLargeTaskList(5);
+        storage.saveTaskList(taskList);
+        TaskList snapshot = new TaskList(taskList);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        taskList.done(Index.of("01000001"));
+        taskList.delete(Index.of("01000000"));
+        taskList.add(new TaskBuilder().withIndex("0199").withDescription("New task").buildTopic());
+        storage.saveTaskList(taskList);
+
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(snapshot, new TaskList(snapshotStorage.readTaskList().get()));
+        assertEquals(taskList, new TaskList(storage.readTaskList().get()));
+    }
+
+    @Test
+    public void saveTaskList_sameTaskChangedRepeatedly_oneRecordPerSave() throws Exception {
+        TaskList taskList = getLargeTaskList(3);
+        storage.saveTaskList(taskList);
+
+        taskList.done(Index.of("01000001"));
+        taskList.undone(Index.of("01000001"));
+        taskList.done(Index.of("01000001"));
+        storage.saveTaskList(taskList);
+        storage.saveTaskList(taskList);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(taskList, new TaskList(storage.readTaskList().get()));
+    }
+
+    @Test
+    public void saveTaskList_resetData_rewritesSnapshot() throws Exception {
+        TaskList taskList = getLargeTaskList(3);
+        storage.saveTaskList(taskList);
+        taskList.done(Index.of("01000001"));
+        storage.saveTaskList(taskList);
+
+        taskList.resetData(getLargeTaskList(2));
+        storage.saveTaskList(taskList);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(taskList, new TaskList(snapshotStorage.readTaskList().get()));
+    }
+
+    @Test
+    public void saveTaskList_journalFull_compactsIntoSnapshot() throws Exception {
+        TaskList taskList = getLargeTaskList(2);
+        storage.saveTaskList(taskList);
+        for (int i = 0; i < JournaledTaskListStorage.COMPACTION_THRESHOLD; i++) {
+            if (i % 2 == 0) {
+                taskList.done(Index.of("01000001"));
+            } else {
+                taskList.undone(Index.of("01000001"));
+            }
+            storage.saveTaskList(taskList);
+        }
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        taskList.undone(Index.of("01000000"));
+        storage.saveTaskList(taskList);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(taskList, new TaskList(snapshotStorage.readTaskList().get()));
+    }
+
+    @Test
+    public void close_changesJournaled_compactsIntoSnapshot() throws Exception {
+        TaskList taskList = getLargeTaskList(3);
+        storage.saveTaskList(taskList);
+        taskList.done(Index.of("01000001"));
+        storage.saveTaskList(taskList);
+
+        storage.close();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertSameTasks(taskList, snapshotStorage.readTaskList().get());
+    }
+
+    @Test
+    public void saveTaskList_binarySnapshotResetData_writesCapturedTasks() throws Exception {
+        BinaryTaskListStorage binaryStorage = new BinaryTaskListStorage(testFolder.resolve("tasklist.bin"));
+        JournaledTaskListStorage journaledStorage = new JournaledTaskListStorage(binaryStorage);
+        TaskList taskList = getLargeTaskList(3);
+        journaledStorage.saveTaskList(taskList);
+        taskList.done(Index.of("01000001"));
+        journaledStorage.saveTaskList(taskList);
+
+        taskList.resetData(getLargeTaskList(4));
+        journaledStorage.saveTaskList(taskList);
+
+        assertFalse(Files.exists(journaledStorage.getJournalFilePath()));
+        assertSameTasks(taskList, binaryStorage.readTaskList().get());
+    }
+
+    @Test
+    public void readTaskList_incompleteLastRecord_ignored() throws Exception {
+        TaskList taskList = getLargeTaskList(3);
+        storage.saveTaskList(taskList);
+        taskList.done(Index.of("01000001"));
+        storage.saveTaskList(taskList);
+        Files.writeString(storage.getJournalFilePath(), "{\"op\":\"delete\",\"ind", StandardOpenOption.APPEND);
+
+        assertEquals(taskList, new TaskList(new JournaledTaskListStorage(snapshotStorage).readTaskList().get()));
+    }
+
+    @Test
+    public void recoverTaskList_unreadableSnapshot_journalKeptAside() throws Exception {
+        TaskList backup = getLargeTaskList(3);
+        storage.saveTaskList(backup);
+        TaskList taskList = new TaskList(backup);
+        storage.saveTaskList(taskList);
+        taskList.done(Index.of("01000001"));
+        storage.saveTaskList(taskList);
+        Files.writeString(snapshotStorage.getTaskListFilePath(), "{ \"tasks\": [");
+
+        JournaledTaskListStorage restartedStorage = new JournaledTaskListStorage(snapshotStorage);
+        assertSameTasks(getLargeTaskList(3), restartedStorage.recoverTaskList().get());
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertTrue(Files.exists(TaskListBackups.getCorruptFilePath(storage.getJournalFilePath())));
+        assertSameTasks(getLargeTaskList(3), restartedStorage.readTaskList().get());
+    }
+}
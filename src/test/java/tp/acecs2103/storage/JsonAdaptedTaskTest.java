@@ -17,7 +17,7 @@ public class JsonAdaptedTaskTest {
     private static final String INVALID_WEEKNUMBER = "14";
     private static final String INVALID_DEADLINE = "2020-1-1";
 
-    private static Admin task = new Admin(new Index("0101"), new WeekNumber("1"), new Description("Description"),
+    private static Admin task = new Admin(Index.of("0101"), WeekNumber.of("1"), new Description("Description"),
             new OfficialDeadline("2020-01-01", LocalDate.of(2020, 1, 1)),
             new CustomizedDeadline("2020-01-01", LocalDate.of(2020, 1, 1)),
             new Remark("no remark"), true, false);
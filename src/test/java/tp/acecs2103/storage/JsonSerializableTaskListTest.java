@@ -5,12 +5,15 @@ import static tp.acecs2103.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import tp.acecs2103.commons.exceptions.IllegalValueException;
 import tp.acecs2103.commons.util.JsonUtil;
 import tp.acecs2103.model.TaskList;
+import tp.acecs2103.model.task.Index;
 import tp.acecs2103.testutil.TypicalTasks;
 
 public class JsonSerializableTaskListTest {
@@ -45,5 +48,34 @@ public class JsonSerializableTaskListTest {
                 dataFromFile::toModelType);
     }
 
-}
+    @Test
+    public void toModelType_manyTasks_keepsFileOrder() throws Exception {
+        List<JsonAdaptedTask> tasks = createJsonAdaptedTasks(5000);
+        TaskList taskList = new JsonSerializableTaskList(tasks).toModelType();
+        assertEquals(5000, taskList.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.get(i).toModelType(), taskList.getTaskList().get(i));
+        }
+    }
 
+    @Test
+    public void toModelType_manyTasksWithInvalidTasks_reportsFirstInvalidTask() {
+        List<JsonAdaptedTask> tasks = createJsonAdaptedTasks(5000);
+        tasks.set(4000, new JsonAdaptedTask(null, "1", "Missing index", null, "2020-10-10", null, "Admin",
+                true, false));
+        tasks.set(100, new JsonAdaptedTask("100", "1", "Invalid index", null, "2020-10-10", null, "Admin",
+                true, false));
+        assertThrows(IllegalValueException.class, Index.MESSAGE_CONSTRAINTS,
+                new JsonSerializableTaskList(tasks)::toModelType);
+    }
+
+    private static List<JsonAdaptedTask> createJsonAdaptedTasks(int count) {
+        List<JsonAdaptedTask> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(new JsonAdaptedTask("0" + (1000 + i), Integer.toString(i % 13 + 1), "Task " + i, null,
+                    "2020-10-10", "Remark " + i, "Ip", true, i % 2 == 0));
+        }
+        return tasks;
+    }
+
+}
@@ -6,6 +6,7 @@ import static tp.acecs2103.testutil.Assert.assertThrows;
 import static tp.acecs2103.testutil.TypicalTasks.*;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -83,6 +84,20 @@ public class JsonTaskListStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveTaskList_notPrettyPrinted_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.json");
+        TaskList original = getTypicalTaskList();
+        JsonTaskListStorage storage = new JsonTaskListStorage(filePath, false);
+
+        storage.saveTaskList(original);
+        assertFalse(Files.readString(filePath).contains("\n"));
+        assertEquals(original, new TaskList(storage.readTaskList().get()));
+
+        // a compact file can be read by a pretty printing storage and vice versa
+        assertEquals(original, new TaskList(new JsonTaskListStorage(filePath).readTaskList().get()));
+    }
+
     @Test
     public void saveAddressBook_nullTaskList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveTaskList(null, "SomeFile.json"));
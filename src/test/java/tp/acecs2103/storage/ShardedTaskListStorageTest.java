@@ -0,0 +1,116 @@
+package tp.acecs2103.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tp.acecs2103.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.model.task.Index;
+import tp.acecs2103.model.task.Task;
+import tp.acecs2103.model.task.WeekNumber;
+import tp.acecs2103.testutil.TaskBuilder;
+
+public class ShardedTaskListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Creates a task list with two default tasks in each of the first {@code weeks} weeks and one customized task,
+     * in the order in which the shards are read.
+     */
+    private static TaskList createTaskList(int weeks) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int week = 1; week <= weeks; week++) {
+            for (int i = 1; i <= 2; i++) {
+                tasks.add(new TaskBuilder().withIndex(String.format("0%d%02d", week, i))
+                        .withWeekNumber(String.valueOf(week)).withDescription("Task " + week + "." + i)
+                        .withIsCustomized(false)
+                        .buildAdmin());
+            }
+        }
+        tasks.add(new TaskBuilder().withIndex("0199").withWeekNumber("1").withDescription("My task")
+                .withIsCustomized(true).buildTopic());
+        return new TaskList(tasks, WeekNumber.of(1));
+    }
+
+    @Test
+    public void readAndSaveTaskList_allInOrder_success() throws Exception {
+        Path directory = testFolder.resolve("tasks");
+        ShardedTaskListStorage storage = new ShardedTaskListStorage(directory, true);
+        TaskList original = createTaskList(3);
+
+        storage.saveTaskList(original);
+        assertTrue(Files.exists(directory.resolve("week-01.json")));
+        assertTrue(Files.exists(directory.resolve("week-03.json")));
+        assertTrue(Files.exists(directory.resolve("customized.json")));
+        assertFalse(Files.exists(directory.resolve("week-04.json")));
+        assertEquals(original, new TaskList(storage.readTaskList().get()));
+
+        original.delete(Index.of("0199"));
+        storage.saveTaskList(original);
+        assertFalse(Files.exists(directory.resolve("customized.json")));
+        assertEquals(original, new TaskList(new ShardedTaskListStorage(directory, true).readTaskList().get()));
+    }
+
+    @Test
+    public void captureUpdate_taskChanged_onlyItsShardRewritten() throws Exception {
+        ShardedTaskListStorage storage = new ShardedTaskListStorage(testFolder.resolve("tasks"), true);
+        TaskList taskList = createTaskList(5);
+        storage.saveTaskList(taskList);
+
+        taskList.done(Index.of("0201"));
+        taskList.done(Index.of("0202"));
+        assertEquals(Set.of(1), storage.captureUpdate(taskList).getShardNumbers());
+        assertTrue(storage.captureUpdate(taskList).getShardNumbers().isEmpty());
+
+        Task task = taskList.getTask(Index.of("0301"));
+        taskList.resetTask(task, new TaskBuilder(task).withWeekNumber("4").withIsCustomized(false).buildAdmin());
+        assertEquals(Set.of(2, 3), storage.captureUpdate(taskList).getShardNumbers());
+    }
+
+    @Test
+    public void readTaskList_legacyFile_migratedIntoShards() throws Exception {
+        Path legacyFilePath = testFolder.resolve(ShardedTaskListStorage.LEGACY_FILE_NAME);
+        TaskList original = createTaskList(2);
+        new JsonTaskListStorage(legacyFilePath).saveTaskList(original);
+        Path directory = testFolder.resolve("tasks");
+
+        assertEquals(original, new TaskList(new ShardedTaskListStorage(directory, true).readTaskList().get()));
+        assertTrue(Files.exists(directory.resolve("week-02.json")));
+        assertFalse(Files.exists(legacyFilePath));
+        assertTrue(Files.exists(testFolder.resolve(
+                ShardedTaskListStorage.LEGACY_FILE_NAME + ShardedTaskListStorage.MIGRATED_FILE_SUFFIX)));
+        assertEquals(original, new TaskList(new ShardedTaskListStorage(directory, true).readTaskList().get()));
+    }
+
+    @Test
+    public void readTaskList_taskInWrongShard_throwsDataConversionException() throws Exception {
+        Path directory = testFolder.resolve("tasks");
+        new ShardedTaskListStorage(directory, true).saveTaskList(createTaskList(2));
+        Files.move(directory.resolve("week-02.json"), directory.resolve("week-05.json"));
+
+        assertThrows(DataConversionException.class, () -> new ShardedTaskListStorage(directory, true)
+                .readTaskList());
+    }
+
+    @Test
+    public void createTaskListStorage_noExtension_sharded() {
+        assertTrue(StorageManager.createTaskListStorage(testFolder.resolve("tasks"), true)
+                instanceof ShardedTaskListStorage);
+        assertTrue(StorageManager.createIncrementalTaskListStorage(testFolder.resolve("tasks"), true,
+                FileCompression.NONE) instanceof ShardedTaskListStorage);
+        assertTrue(StorageManager.createIncrementalTaskListStorage(testFolder.resolve("tasklist.json"), true,
+                FileCompression.NONE) instanceof JournaledTaskListStorage);
+    }
+}
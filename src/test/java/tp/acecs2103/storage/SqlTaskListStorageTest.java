@@ -0,0 +1,94 @@
+package tp.acecs2103.storage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tp.acecs2103.testutil.Assert.assertSameTasks;
+import static tp.acecs2103.testutil.TypicalTasks.getLargeTaskList;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.testutil.TaskBuilder;
+
+public class SqlTaskListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveTaskList_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.db");
+        SqlTaskListStorage storage = new SqlTaskListStorage(filePath);
+        TaskList original = getLargeTaskList(30);
+
+        storage.saveTaskList(original);
+        assertTrue(SqlTaskListStorage.isDatabase(filePath));
+        assertSameTasks(original, storage.readTaskList().get());
+        storage.close();
+    }
+
+    @Test
+    public void saveTaskList_changedTasks_onlyChangesWritten() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.db");
+        SqlTaskListStorage storage = new SqlTaskListStorage(filePath);
+        TaskList taskList = getLargeTaskList(30);
+        storage.saveTaskList(taskList);
+
+        taskList.done(taskList.getTaskList().get(4).getIndex());
+        taskList.delete(taskList.getTaskList().get(0).getIndex());
+        taskList.add(new TaskBuilder().withIndex("0150").withWeekNumber("5").buildTopic());
+        SqlTaskListStorage.RowUpdate update = storage.captureUpdate(taskList);
+        storage.writeUpdate(update);
+        storage.close();
+
+        assertSameTasks(taskList, new SqlTaskListStorage(filePath).readTaskList().get());
+    }
+
+    @Test
+    public void writeUpdate_rewriteMergedWithLaterChanges_changesKept() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.db");
+        SqlTaskListStorage storage = new SqlTaskListStorage(filePath);
+        TaskList taskList = getLargeTaskList(30);
+        storage.saveTaskList(taskList);
+        taskList.resetData(getLargeTaskList(20));
+        SqlTaskListStorage.RowUpdate rewrite = storage.captureUpdate(taskList);
+
+        taskList.done(taskList.getTaskList().get(4).getIndex());
+        taskList.delete(taskList.getTaskList().get(0).getIndex());
+        taskList.add(new TaskBuilder().withIndex("0150").withWeekNumber("5").buildTopic());
+        storage.writeUpdate(rewrite.merge(storage.captureUpdate(taskList)));
+        storage.close();
+
+        assertSameTasks(taskList, new SqlTaskListStorage(filePath).readTaskList().get());
+    }
+
+    @Test
+    public void saveTaskList_resetData_tableRewritten() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.db");
+        SqlTaskListStorage storage = new SqlTaskListStorage(filePath);
+        TaskList taskList = getLargeTaskList(30);
+        storage.saveTaskList(taskList);
+
+        taskList.resetData(getLargeTaskList(10));
+        storage.saveTaskList(taskList);
+        storage.close();
+
+        assertSameTasks(taskList, new SqlTaskListStorage(filePath).readTaskList().get());
+    }
+
+    @Test
+    public void readTaskList_missingDatabase_emptyResult() throws Exception {
+        assertFalse(new SqlTaskListStorage(testFolder.resolve("missing.db")).readTaskList().isPresent());
+    }
+
+    @Test
+    public void createTaskListStorage_databaseExtension_sqlStorage() {
+        assertTrue(StorageManager.createTaskListStorage(testFolder.resolve("tasklist.db"), true)
+                instanceof SqlTaskListStorage);
+        assertTrue(StorageManager.createIncrementalTaskListStorage(testFolder.resolve("tasklist.db"), true,
+                FileCompression.NONE) instanceof SqlTaskListStorage);
+    }
+}
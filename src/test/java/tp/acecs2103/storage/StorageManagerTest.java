@@ -2,8 +2,11 @@ package tp.acecs2103.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static tp.acecs2103.testutil.Assert.assertSameTasks;
+import static tp.acecs2103.testutil.Assert.assertThrows;
 import static tp.acecs2103.testutil.TypicalTasks.getTypicalTaskList;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -59,6 +62,21 @@ public class StorageManagerTest {
         assertEquals(original, new TaskList(retrieved));
     }
 
+    @Test
+    public void taskRecordsWriteRead() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link TaskRecordFormat} class.
+         * More extensive testing of task record reading/writing is done in {@link TaskRecordFormatTest} class.
+         */
+        TaskList original = getTypicalTaskList();
+        Path filePath = getTempFilePath("tasks.csv");
+        assertEquals(original.size(), storageManager.writeTaskRecords(original, filePath));
+        assertSameTasks(original.inWeekOrder(), storageManager.readTaskRecords(filePath));
+        assertThrows(IOException.class, TaskRecordFormat.MESSAGE_UNSUPPORTED_FORMAT, () ->
+                storageManager.writeTaskRecords(original, getTempFilePath("tasks.txt")));
+    }
+
     @Test
     public void getTaskListFilePath() {
         assertNotNull(storageManager.getTaskListFilePath());
@@ -0,0 +1,101 @@
+package tp.acecs2103.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static tp.acecs2103.testutil.Assert.assertThrows;
+import static tp.acecs2103.testutil.TypicalTasks.AdminOne;
+import static tp.acecs2103.testutil.TypicalTasks.AdminTwo;
+import static tp.acecs2103.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.model.TaskList;
+
+public class TaskListBackupsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTaskList_corruptTask_taskQuarantined() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.json");
+        new JsonTaskListStorage(filePath).saveTaskList(getTypicalTaskList());
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        Files.write(filePath, content.replace("Admin One", "Admin 0ne").getBytes(StandardCharsets.UTF_8));
+
+        TaskList taskList = new JsonTaskListStorage(filePath).readTaskList().get();
+        new JsonTaskListStorage(filePath).readTaskList();
+        assertEquals(getTypicalTaskList().size() - 1, taskList.size());
+        assertNull(taskList.getTask(AdminOne.getIndex()));
+        assertEquals(1, Files.readAllLines(TaskListBackups.getQuarantineFilePath(filePath)).size());
+    }
+
+    @Test
+    public void readTaskList_unreadableFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.json");
+        JsonTaskListStorage storage = new JsonTaskListStorage(filePath);
+        storage.saveTaskList(getTypicalTaskList());
+        storage.saveTaskList(getTypicalTaskList());
+        Files.write(filePath, "{ \"tasks\": [ { \"index\"".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataConversionException.class, storage::readTaskList);
+        assertFalse(Files.exists(TaskListBackups.getCorruptFilePath(filePath)));
+    }
+
+    @Test
+    public void recoverTaskList_unreadableFile_restoredFromNewestBackup() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.json");
+        JsonTaskListStorage storage = new JsonTaskListStorage(filePath);
+        TaskList previous = getTypicalTaskList();
+        storage.saveTaskList(previous);
+        TaskList latest = getTypicalTaskList();
+        latest.delete(AdminTwo.getIndex());
+        storage.saveTaskList(latest);
+        byte[] corruptData = "{ \"tasks\": [ { \"index\"".getBytes(StandardCharsets.UTF_8);
+        Files.write(filePath, corruptData);
+
+        assertEquals(previous, storage.recoverTaskList().get());
+        assertEquals(previous, storage.readTaskList().get());
+        assertArrayEquals(corruptData, Files.readAllBytes(TaskListBackups.getCorruptFilePath(filePath)));
+    }
+
+    @Test
+    public void recoverTaskList_fileAndBackupsUnreadable_nothingRecovered() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.bin");
+        BinaryTaskListStorage storage = new BinaryTaskListStorage(filePath);
+        storage.saveTaskList(getTypicalTaskList());
+        storage.saveTaskList(getTypicalTaskList());
+        for (Path path : new Path[] {filePath, TaskListBackups.getBackupFilePath(filePath, 1)}) {
+            byte[] data = Files.readAllBytes(path);
+            data[data.length / 2] ^= 0x10;
+            Files.write(path, data);
+        }
+
+        assertThrows(DataConversionException.class, storage::readTaskList);
+        assertFalse(storage.recoverTaskList().isPresent());
+        assertFalse(Files.exists(TaskListBackups.getCorruptFilePath(filePath)));
+    }
+
+    @Test
+    public void saveTaskList_repeatedSaves_onlyNewestBackupsKept() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.json");
+        JsonTaskListStorage storage = new JsonTaskListStorage(filePath);
+        for (int i = 0; i <= TaskListBackups.BACKUP_COUNT + 1; i++) {
+            storage.saveTaskList(getTypicalTaskList());
+        }
+
+        for (int generation = 1; generation <= TaskListBackups.BACKUP_COUNT; generation++) {
+            assertEquals(getTypicalTaskList(),
+                    storage.readTaskList(TaskListBackups.getBackupFilePath(filePath, generation)).get());
+        }
+        assertFalse(Files.exists(TaskListBackups.getBackupFilePath(filePath, TaskListBackups.BACKUP_COUNT + 1)));
+    }
+}
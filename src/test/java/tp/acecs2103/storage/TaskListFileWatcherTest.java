@@ -0,0 +1,108 @@
+package tp.acecs2103.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static tp.acecs2103.testutil.TypicalTasks.AdminTwo;
+import static tp.acecs2103.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tp.acecs2103.model.TaskList;
+
+public class TaskListFileWatcherTest {
+    private static final long DEBOUNCE_MILLIS = 200;
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void externalChange_writtenInSteps_readOnceWhenComplete() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.json");
+        new JsonTaskListStorage(filePath).saveTaskList(getTypicalTaskList());
+        BlockingQueue<TaskList> reloads = new LinkedBlockingQueue<>();
+        TaskListFileWatcher watcher = new TaskListFileWatcher(new JsonTaskListStorage(filePath), DEBOUNCE_MILLIS,
+                reloads::add);
+        watcher.start();
+        try {
+            TaskList changed = getTypicalTaskList();
+            changed.delete(AdminTwo.getIndex());
+            Files.write(filePath, new byte[] {'{'});
+            new JsonTaskListStorage(filePath).saveTaskList(changed);
+
+            assertEquals(changed, reloads.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            assertNull(reloads.poll(DEBOUNCE_MILLIS * 3, TimeUnit.MILLISECONDS));
+        } finally {
+            watcher.close();
+        }
+    }
+
+    @Test
+    public void ownWrite_marked_notRead() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.json");
+        JsonTaskListStorage storage = new JsonTaskListStorage(filePath);
+        BlockingQueue<TaskList> reloads = new LinkedBlockingQueue<>();
+        TaskListFileWatcher watcher = new TaskListFileWatcher(storage, DEBOUNCE_MILLIS, reloads::add);
+        watcher.start();
+        try {
+            storage.saveTaskList(getTypicalTaskList());
+            watcher.markOwnWrite();
+
+            assertNull(reloads.poll(DEBOUNCE_MILLIS * 3, TimeUnit.MILLISECONDS));
+        } finally {
+            watcher.close();
+        }
+    }
+
+    @Test
+    public void externalChange_fileStaysCorrupt_notReadOrRecovered() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.json");
+        JsonTaskListStorage storage = new JsonTaskListStorage(filePath);
+        storage.saveTaskList(getTypicalTaskList());
+        storage.saveTaskList(getTypicalTaskList());
+        BlockingQueue<TaskList> reloads = new LinkedBlockingQueue<>();
+        TaskListFileWatcher watcher = new TaskListFileWatcher(new JsonTaskListStorage(filePath), DEBOUNCE_MILLIS,
+                reloads::add);
+        watcher.start();
+        try {
+            byte[] corruptData = {'{', '"'};
+            Files.write(filePath, corruptData);
+
+            assertNull(reloads.poll(DEBOUNCE_MILLIS * 5, TimeUnit.MILLISECONDS));
+            assertArrayEquals(corruptData, Files.readAllBytes(filePath));
+            assertFalse(Files.exists(TaskListBackups.getCorruptFilePath(filePath)));
+        } finally {
+            watcher.close();
+        }
+    }
+
+    @Test
+    public void shardedDirectory_otherFileChanged_notRead() throws Exception {
+        Path directory = testFolder.resolve("tasks");
+        ShardedTaskListStorage storage = new ShardedTaskListStorage(directory, true);
+        storage.saveTaskList(getTypicalTaskList());
+        BlockingQueue<TaskList> reloads = new LinkedBlockingQueue<>();
+        TaskListFileWatcher watcher = new TaskListFileWatcher(new ShardedTaskListStorage(directory, true),
+                DEBOUNCE_MILLIS, reloads::add);
+        watcher.start();
+        try {
+            Path quarantineFilePath = TaskListBackups.getQuarantineFilePath(
+                    ShardedTaskListStorage.getShardFilePath(directory, 0));
+            Files.writeString(quarantineFilePath, "{}\n");
+            Files.writeString(directory.resolve("notes.txt"), "notes");
+
+            assertNull(reloads.poll(DEBOUNCE_MILLIS * 5, TimeUnit.MILLISECONDS));
+        } finally {
+            watcher.close();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package tp.acecs2103.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tp.acecs2103.testutil.Assert.assertSameTasks;
+import static tp.acecs2103.testutil.Assert.assertThrows;
+import static tp.acecs2103.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tp.acecs2103.commons.exceptions.DataConversionException;
+import tp.acecs2103.commons.exceptions.IllegalValueException;
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.model.task.Task;
+import tp.acecs2103.model.task.WeekNumber;
+import tp.acecs2103.testutil.TaskBuilder;
+
+public class TaskRecordFormatTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static TaskList createTaskList() {
+        TaskList taskList = getTypicalTaskList();
+        taskList.add(new TaskBuilder().withIndex("0105").withWeekNumber("1")
+                .withDescription("Read \"Clean Code\", chapters 1; 2 and\\or 3, then summarise them in a note "
+                        + "of about one page \u2013 \u00fcber alles \uD83D\uDE00")
+                .withRemark("First line\nSecond line").withCustomizedDeadline("2020-09-01").buildTopic());
+        return taskList;
+    }
+
+    private static List<Task> readAll(Path filePath) throws Exception {
+        return TaskRecordFormat.forFileName(filePath).get().read(filePath);
+    }
+
+    @Test
+    public void writeAndRead_csv_allTasksInWeekOrder() throws Exception {
+        Path filePath = testFolder.resolve("tasks.csv");
+        TaskList taskList = createTaskList();
+
+        assertEquals(taskList.size(), TaskRecordFormat.CSV.write(filePath, taskList));
+        assertSameTasks(taskList.inWeekOrder(), readAll(filePath));
+    }
+
+    @Test
+    public void writeAndRead_compressedICalendar_tasksWithDeadlinesInDeadlineOrder() throws Exception {
+        Path filePath = testFolder.resolve("deadlines.ics.gz");
+        TaskList taskList = createTaskList();
+
+        assertEquals(taskList.inDeadlineOrder().size(), TaskRecordFormat.ICALENDAR.write(filePath, taskList));
+        assertSameTasks(taskList.inDeadlineOrder(), readAll(filePath));
+    }
+
+    @Test
+    public void write_iCalendarTaskWithoutDeadline_notWritten() throws Exception {
+        try (TaskRecordWriter writer = new ICalendarTaskRecordWriter(new StringWriter())) {
+            assertFalse(writer.write(new TaskBuilder().withOfficialDeadline(null).withCustomizedDeadline(null)
+                    .buildTopic()));
+            assertTrue(writer.write(new TaskBuilder().buildTopic()));
+        }
+    }
+
+    @Test
+    public void write_iCalendar_linesFolded() throws Exception {
+        Path filePath = testFolder.resolve("deadlines.ics");
+        TaskRecordFormat.ICALENDAR.write(filePath, createTaskList());
+
+        for (String line : Files.readAllLines(filePath, StandardCharsets.UTF_8)) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+    }
+
+    @Test
+    public void read_csvColumnsInOtherOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("tasks.csv");
+        Files.write(filePath, ("Description,Index,Week,Notes\r\n\"Quiz, part 1\",0103,1,ignored\r\n")
+                .getBytes(StandardCharsets.UTF_8));
+
+        List<Task> tasks = readAll(filePath);
+        assertEquals(1, tasks.size());
+        assertEquals("Quiz, part 1", tasks.get(0).getDescription().value);
+        assertNull(tasks.get(0).getOfficialDeadline());
+    }
+
+    @Test
+    public void read_invalidCsvRow_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("tasks.csv");
+        Files.write(filePath, "index,week,description\n0101,1,Valid\n0102,99,Invalid week\n"
+                .getBytes(StandardCharsets.UTF_8));
+
+        try (TaskRecordReader reader = TaskRecordFormat.CSV.openReader(filePath)) {
+            reader.read();
+            assertThrows(DataConversionException.class, IllegalValueException.class.getName()
+                    + ": Line 3 of tasks.csv is not a valid task: " + WeekNumber.MESSAGE_CONSTRAINTS, reader::read);
+        }
+    }
+
+    @Test
+    public void read_iCalendarFromOtherApplication_dueOnStartDate() throws Exception {
+        Path filePath = testFolder.resolve("calendar.ics");
+        Files.write(filePath, ("BEGIN:VCALENDAR\r\nBEGIN:VTIMEZONE\r\nTZID:Asia/Singapore\r\nEND:VTIMEZONE\r\n"
+                + "BEGIN:VEVENT\r\nUID:0601@acecs2103\r\nDTSTART;TZID=\"Asia/Singapore\":20201016T235900\r\n"
+                + "SUMMARY:Submit\r\n  iP\r\nX-ACECS2103-WEEK:6\r\nBEGIN:VALARM\r\nSUMMARY:Reminder\r\n"
+                + "END:VALARM\r\nEND:VEVENT\r\nEND:VCALENDAR\r\n").getBytes(StandardCharsets.UTF_8));
+
+        List<Task> tasks = readAll(filePath);
+        assertEquals(1, tasks.size());
+        assertEquals("0601", tasks.get(0).getIndex().value);
+        assertEquals("Submit iP", tasks.get(0).getDescription().value);
+        assertEquals("2020-10-16", tasks.get(0).getOfficialDeadline().value);
+    }
+}
@@ -0,0 +1,167 @@
+package tp.acecs2103.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tp.acecs2103.testutil.Assert.assertSameTasks;
+import static tp.acecs2103.testutil.TypicalTasks.getLargeTaskList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.model.task.Index;
+
+public class WriteBehindTaskListStorageTest {
+    private static final long NEVER = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private WriteBehindTaskListStorage createStorage(Path filePath, long flushIntervalMillis) {
+        return new WriteBehindTaskListStorage(new JournaledTaskListStorage(new JsonTaskListStorage(filePath)),
+                flushIntervalMillis, NEVER);
+    }
+
+    @Test
+    public void saveTaskList_burstOfSaves_writtenTogetherOnFlush() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.json");
+        WriteBehindTaskListStorage storage = createStorage(filePath, NEVER);
+        TaskList taskList = getLargeTaskList(3);
+
+        storage.saveTaskList(taskList);
+        taskList.done(Index.of("01000001"));
+        storage.saveTaskList(taskList);
+        taskList.delete(Index.of("01000000"));
+        storage.saveTaskList(taskList);
+        assertFalse(Files.exists(filePath));
+
+        storage.flush();
+        assertTrue(Files.exists(filePath));
+        assertEquals(taskList, new TaskList(storage.readTaskList().get()));
+        storage.close();
+    }
+
+    @Test
+    public void saveTaskList_changesAfterSnapshot_journaledOnFlush() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.json");
+        WriteBehindTaskListStorage storage = createStorage(filePath, NEVER);
+        TaskList taskList = getLargeTaskList(3);
+        storage.saveTaskList(taskList);
+        storage.flush();
+        TaskList snapshot = new TaskList(taskList);
+
+        taskList.done(Index.of("01000001"));
+        storage.saveTaskList(taskList);
+        taskList.done(Index.of("01000002"));
+        storage.saveTaskList(taskList);
+        storage.flush();
+
+        assertEquals(snapshot, new TaskList(new JsonTaskListStorage(filePath).readTaskList().get()));
+        assertEquals(taskList, new TaskList(storage.readTaskList().get()));
+    }
+
+    @Test
+    public void close_changesJournaled_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.json");
+        WriteBehindTaskListStorage storage = createStorage(filePath, NEVER);
+        TaskList taskList = getLargeTaskList(3);
+        storage.saveTaskList(taskList);
+        storage.flush();
+
+        taskList.done(Index.of("01000001"));
+        storage.saveTaskList(taskList);
+        storage.close();
+
+        assertFalse(Files.exists(TaskListJournal.getJournalFilePath(filePath)));
+        assertSameTasks(taskList, new JsonTaskListStorage(filePath).readTaskList().get());
+    }
+
+    @Test
+    public void saveTaskList_noFurtherSaves_writtenAfterFlushInterval() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.json");
+        WriteBehindTaskListStorage storage = createStorage(filePath, 0);
+        storage.saveTaskList(getLargeTaskList(2));
+
+        for (int i = 0; i < 100 && !Files.exists(filePath); i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(Files.exists(filePath));
+        storage.close();
+    }
+
+    @Test
+    public void saveTaskList_writeFails_failureReported() throws Exception {
+        Path blockingFile = testFolder.resolve("notADirectory");
+        Files.createFile(blockingFile);
+        WriteBehindTaskListStorage storage = createStorage(blockingFile.resolve("tasklist.json"), NEVER);
+        AtomicReference<IOException> failure = new AtomicReference<>();
+        storage.setFailureHandler(failure::set);
+
+        storage.saveTaskList(getLargeTaskList(2));
+        storage.flush();
+        assertNotNull(failure.get());
+        storage.close();
+    }
+
+    @Test
+    public void close_backgroundWriteFailed_failedChangesWritten() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.json");
+        FailingTaskListStorage failingStorage = new FailingTaskListStorage(filePath, 1);
+        WriteBehindTaskListStorage storage = new WriteBehindTaskListStorage(failingStorage, NEVER, NEVER);
+        AtomicReference<IOException> failure = new AtomicReference<>();
+        storage.setFailureHandler(failure::set);
+        TaskList taskList = getLargeTaskList(3);
+        storage.saveTaskList(taskList);
+        storage.flush();
+        assertNotNull(failure.get());
+
+        failure.set(null);
+        storage.close();
+        assertNull(failure.get());
+        assertEquals(taskList, new TaskList(new JournaledTaskListStorage(new JsonTaskListStorage(filePath))
+                .readTaskList().get()));
+    }
+
+    @Test
+    public void close_writeFailsOnce_retriedAndWritten() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.json");
+        FailingTaskListStorage failingStorage = new FailingTaskListStorage(filePath, 1);
+        WriteBehindTaskListStorage storage = new WriteBehindTaskListStorage(failingStorage, NEVER, NEVER);
+        TaskList taskList = getLargeTaskList(3);
+        storage.saveTaskList(taskList);
+
+        storage.close();
+        assertEquals(0, failingStorage.failuresLeft);
+        assertEquals(taskList, new TaskList(new JournaledTaskListStorage(new JsonTaskListStorage(filePath))
+                .readTaskList().get()));
+    }
+
+    /**
+     * A journaled JSON storage whose first {@code failures} writes fail.
+     */
+    private static class FailingTaskListStorage extends JournaledTaskListStorage {
+        private int failuresLeft;
+
+        FailingTaskListStorage(Path filePath, int failures) {
+            super(new JsonTaskListStorage(filePath));
+            this.failuresLeft = failures;
+        }
+
+        @Override
+        public void writeUpdate(Update update) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IOException("Disk full");
+            }
+            super.writeUpdate(update);
+        }
+    }
+}
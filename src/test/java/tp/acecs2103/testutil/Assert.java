@@ -1,8 +1,18 @@
 package tp.acecs2103.testutil;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Iterator;
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.function.Executable;
 
+import tp.acecs2103.model.TaskList;
+import tp.acecs2103.model.task.Deadline;
+import tp.acecs2103.model.task.Remark;
+import tp.acecs2103.model.task.Task;
+
 /**
  * A set of assertion methods useful for writing tests.
  */
@@ -31,5 +41,47 @@ public class Assert {
         Throwable thrownException = Assertions.assertThrows(expectedType, executable);
         Assertions.assertEquals(expectedMessage, thrownException.getMessage());
     }
-}
 
+    /**
+     * Asserts that {@code actual} holds tasks with the same fields as the tasks of {@code expected}, in the same order.
+     */
+    public static void assertSameTasks(TaskList expected, TaskList actual) {
+        assertSameTasks(expected.getTaskList(), actual.getTaskList());
+    }
+
+    /**
+     * Asserts that {@code actual} holds tasks with the same fields as {@code expected}, in the same order.
+     * Unlike {@link Task#equals(Object)}, which only compares the index, week number and description of tasks,
+     * every field is compared.
+     */
+    public static void assertSameTasks(Iterable<? extends Task> expected, List<? extends Task> actual) {
+        Iterator<? extends Task> actualTasks = actual.iterator();
+        int count = 0;
+        for (Task expectedTask : expected) {
+            Assertions.assertTrue(actualTasks.hasNext(), "Missing task " + expectedTask.getIndex());
+            assertSameTask(expectedTask, actualTasks.next());
+            count++;
+        }
+        assertEquals(count, actual.size());
+    }
+
+    private static void assertSameTask(Task expected, Task actual) {
+        assertEquals(expected.getIndex(), actual.getIndex());
+        assertEquals(expected.getWeekNumber(), actual.getWeekNumber());
+        assertEquals(expected.getCategory(), actual.getCategory());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(getValue(expected.getRemark()), getValue(actual.getRemark()));
+        assertEquals(getValue(expected.getOfficialDeadline()), getValue(actual.getOfficialDeadline()));
+        assertEquals(getValue(expected.getCustomizedDeadline()), getValue(actual.getCustomizedDeadline()));
+        assertEquals(expected.isDone(), actual.isDone());
+        assertEquals(expected.isCustomized(), actual.isCustomized());
+    }
+
+    private static String getValue(Remark remark) {
+        return remark == null ? null : remark.value;
+    }
+
+    private static String getValue(Deadline deadline) {
+        return deadline == null ? null : deadline.value;
+    }
+}
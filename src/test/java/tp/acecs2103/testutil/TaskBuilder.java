@@ -11,8 +11,8 @@ import java.util.Set;
  */
 public class TaskBuilder {
 
-    public static Index DEFAULT_INDEX = new Index("0101");
-    public static WeekNumber DEFAULT_WEEKNUMBER = new WeekNumber("1");
+    public static Index DEFAULT_INDEX = Index.of("0101");
+    public static WeekNumber DEFAULT_WEEKNUMBER = WeekNumber.of("1");
     public static Description DEFAULT_DESCRIPTION = new Description("Description");
     public static OfficialDeadline DEFAULT_OFFICIALDEADLINE = new OfficialDeadline("2020-10-10",
             LocalDate.of(2020, 10, 10));
@@ -65,7 +65,7 @@ public class TaskBuilder {
      * Sets the {@code Index} of the {@code Task} that we are building.
      */
     public TaskBuilder withIndex(String index) {
-        this.index = new Index(index);
+        this.index = Index.of(index);
         return this;
     }
 
@@ -73,7 +73,7 @@ public class TaskBuilder {
      * Sets the {@code weekNumber} of the {@code Task} that we are building.
      */
     public TaskBuilder withWeekNumber(String weekNumber) {
-        this.weekNumber = new WeekNumber(weekNumber);
+        this.weekNumber = WeekNumber.of(weekNumber);
         return this;
     }
 
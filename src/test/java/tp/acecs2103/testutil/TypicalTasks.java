@@ -61,6 +61,45 @@ public class TypicalTasks {
         return taskList;
     }
 
+    /**
+     * Returns a {@code TaskList} of {@code size} tasks with unique indexes, spread over all weeks and categories,
+     * which repeat descriptions and remarks like real task lists do. Some tasks have no customized deadline,
+     * and some have no remark.
+     */
+    public static TaskList getLargeTaskList(int size) {
+        ArrayList<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int week = 1 + i % 13;
+            TaskBuilder builder = new TaskBuilder().withIndex("0" + (1_000_000 + i))
+                    .withWeekNumber(String.valueOf(week))
+                    .withDescription("Week " + week + " task " + i % 50)
+                    .withRemark(i % 4 == 0 ? "Nothing here" : "Remark " + i % 1000)
+                    .withOfficialDeadline(String.format("2020-%02d-%02d", 1 + i % 12, 1 + i % 28))
+                    .withIsCustomized(i % 10 == 0)
+                    .withIsDone(i % 3 == 0);
+            if (i % 6 == 1) {
+                builder.withCustomizedDeadline(String.format("2020-11-%02d", 1 + i % 28)).withRemark(null);
+            } else if (i % 6 == 4) {
+                builder.withCustomizedDeadline(null);
+            }
+            switch (i % 4) {
+            case 0:
+                tasks.add(builder.buildAdmin());
+                break;
+            case 1:
+                tasks.add(builder.buildTopic());
+                break;
+            case 2:
+                tasks.add(builder.buildIp());
+                break;
+            default:
+                tasks.add(builder.buildTp());
+                break;
+            }
+        }
+        return new TaskList(tasks, WeekNumber.of(1));
+    }
+
     public static List<Task> getTypicalTasks() {
         return new ArrayList<>(Arrays.asList(AdminOne, AdminTwo, TopicOne, TopicTwo,
                 IpOne, IpTwo, TpOne, TpTwo));